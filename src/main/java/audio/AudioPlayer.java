@@ -6,6 +6,7 @@ import java.util.Random;
 import kuusisto.tinysound.Music;
 import kuusisto.tinysound.Sound;
 import kuusisto.tinysound.TinySound;
+import utils.AssetManager;
 
 public class AudioPlayer {
     private final String AUDIO_EXT = ".ogg";
@@ -31,9 +32,9 @@ public class AudioPlayer {
     private Random random = new Random();
 
     /**
-     * AudioPlayer constructor initializes TinySound and loads songs and sound effects.
+     * AudioPlayer constructor initializes TinySound and starts loading songs and sound effects in the background.
      * <p/>
-     * It also plays the default menu song.
+     * It also plays the default menu song, as soon as it is loaded.
     */
     public AudioPlayer() {
         TinySound.init();
@@ -43,9 +44,9 @@ public class AudioPlayer {
     }
 
     /**
-     * Loads the songs from the audio resources.
+     * Loads the songs from the audio resources, in parallel on the asset threads.
      * <p/>
-     * The songs are stored in an array for easy access.
+     * The songs are stored in an array for easy access. A song stays {@code null} until it is loaded, the menu song being submitted first.
      */
     private void loadSongs() {
         String[] names = {
@@ -54,8 +55,27 @@ public class AudioPlayer {
             "level2"
         };
         songs = new Music[names.length];
-        for (int i = 0; i < songs.length; i++)
-            songs[i] = getMusic(names[i]);
+        for (int i = 0; i < songs.length; i++) {
+            int id = i;
+            AssetManager.Submit(() -> getMusic(names[id])).thenAccept(music -> songLoaded(id, music));
+        }
+    }
+
+    /**
+     * Stores a song once it is loaded, and starts it if it is the one that should be playing.
+     * @param id The index of the song.
+     * @param music The loaded Music object, or null if loading failed.
+     */
+    private synchronized void songLoaded(int id, Music music) {
+        songs[id] = music;
+        if (music == null)
+            return;
+
+        music.setVolume(volume);
+        if (id == currentSongId && !songMute) {
+            music.setLoop(true);
+            music.play(true);
+        }
     }
 
     /**
@@ -76,8 +96,19 @@ public class AudioPlayer {
             "attack3.wav"
         };
         effects = new Sound[effectNames.length];
-        for (int i = 0; i < effects.length; i++)
-            effects[i] = getSound(effectNames[i]);
+        for (int i = 0; i < effects.length; i++) {
+            int id = i;
+            AssetManager.Submit(() -> getSound(effectNames[id])).thenAccept(sound -> effectLoaded(id, sound));
+        }
+    }
+
+    /**
+     * Stores a sound effect once it is loaded.
+     * @param id The index of the sound effect.
+     * @param sound The loaded Sound object, or null if loading failed.
+     */
+    private synchronized void effectLoaded(int id, Sound sound) {
+        effects[id] = sound;
     }
 
     /**
@@ -133,7 +164,7 @@ public class AudioPlayer {
      *
      * @param volume The desired volume level (0.0 to 1.0).
     */
-    public void setVolume(float volume) {
+    public synchronized void setVolume(float volume) {
         this.volume = volume;
         updateSongVolume();
     }
@@ -143,8 +174,8 @@ public class AudioPlayer {
      * <p/>
      * This method checks if the current song is playing and stops it if so.
     */
-    public void stopSong() {
-        if (songs[currentSongId].playing())
+    public synchronized void stopSong() {
+        if (songs[currentSongId] != null && songs[currentSongId].playing())
             songs[currentSongId].stop();
     }
 
@@ -192,11 +223,11 @@ public class AudioPlayer {
      *
      * @param song The index of the song to play.
     */
-    public void playSong(int song) {
+    public synchronized void playSong(int song) {
         stopSong();
 
         currentSongId = song;
-        if (!songMute) {
+        if (!songMute && songs[currentSongId] != null) {
             updateSongVolume();
             songs[currentSongId].setLoop(true);
             songs[currentSongId].play(true);
@@ -210,7 +241,7 @@ public class AudioPlayer {
      *
      * @param effect The index of the sound effect to play.
     */
-    public void playEffect(int effect) {
+    public synchronized void playEffect(int effect) {
         if (effectMute || effects[effect] == null)
             return; // Do not play if muted or effect is null
         effects[effect].play(volume);
@@ -221,14 +252,14 @@ public class AudioPlayer {
      * <p/>
      * If the song is currently playing, it stops it; otherwise, it plays the song again.
     */
-    public void toggleSongMute() {
+    public synchronized void toggleSongMute() {
         this.songMute = !this.songMute;
         for (Music s : songs) {
             if (s != null && s.playing()) {
                 if (songMute)
                     s.stop();
             }
-            if (!songMute && s == songs[currentSongId]) {
+            if (!songMute && s != null && s == songs[currentSongId]) {
                 s.setLoop(true);
                 s.play(true);
             }
@@ -249,7 +280,7 @@ public class AudioPlayer {
      * <p/>
      * If sound effects are muted, it stops all currently playing effects; otherwise, it plays the jump effect to let the player know effects are unmuted.
     */
-    public void toggleEffectMute() {
+    public synchronized void toggleEffectMute() {
         this.effectMute = !this.effectMute;
         for (Sound e : effects) {
             if (e != null) {
@@ -278,6 +309,9 @@ public class AudioPlayer {
             if (s != null)
                 s.setVolume(volume);
         }
+        if (songs[currentSongId] == null)
+            return;
+
         // If the current song is muted, stop it
         if (songMute && songs[currentSongId].playing()) {
             songs[currentSongId].stop();
@@ -292,7 +326,7 @@ public class AudioPlayer {
      * <p/>
      * This method is called to clean up resources when the audio player is no longer needed.
     */
-    public void shutdown() {
+    public synchronized void shutdown() {
         TinySound.shutdown();
         for (Music s : songs)
             if (s != null)
@@ -43,13 +43,17 @@ public class DialogueEffect {
     }
 
     /**
-     * Resets the effect to a new position and reactivates it.
+     * Resets the effect to a new position and type, and restarts its animation.
      * @param x The new x-coordinate of the effect.
      * @param y The new y-coordinate of the effect.
+     * @param type The new type of the effect.
      */
-    public void reset(int x, int y) {
+    public void reset(int x, int y, int type) {
         this.x = x;
         this.y = y;
+        this.type = type;
+        animationIndex = 0;
+        animationTick = 0;
         active = true;
     }
 
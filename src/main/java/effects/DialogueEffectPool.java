@@ -0,0 +1,83 @@
+package effects;
+
+public class DialogueEffectPool {
+    private final DialogueEffect[] effects;
+    private int head, count;
+
+    /**
+     * Constructor for the DialogueEffectPool class.
+     * </p>
+     * Every effect is created here, once, and then recycled. The effects live in a ring buffer in the order they were shown:
+     * they all play for the same time, so the oldest one is always the next to end, and new effects are written right after the newest.
+     * @param capacity the maximum number of effects shown at the same time
+     */
+    public DialogueEffectPool(int capacity) {
+        effects = new DialogueEffect[capacity];
+        for (int i = 0; i < capacity; i++) {
+            effects[i] = new DialogueEffect(0, 0, 0);
+            effects[i].deactivate();
+        }
+    }
+
+    /**
+     * Shows a new effect.
+     * </p>
+     * When every effect is already in use, the oldest one, which is about to end anyway, is cut short and reused.
+     * @param x the x-coordinate of the effect
+     * @param y the y-coordinate of the effect
+     * @param type the type of the effect, like {@link utils.Constants.Dialogue#QUESTION}
+     */
+    public void acquire(int x, int y, int type) {
+        if (count == effects.length) {
+            head = (head + 1) % effects.length;
+            count--;
+        }
+
+        effects[(head + count) % effects.length].reset(x, y, type);
+        count++;
+    }
+
+    /**
+     * Updates the shown effects, then releases the ones that ended from the oldest side.
+     */
+    public void update() {
+        for (int i = 0; i < count; i++) {
+            DialogueEffect de = effects[(head + i) % effects.length];
+            if (de.isActive())
+                de.update();
+        }
+
+        while (count > 0 && !effects[head].isActive()) {
+            head = (head + 1) % effects.length;
+            count--;
+        }
+    }
+
+    /**
+     * Returns a shown effect, from the oldest to the newest. Effects are only released from the oldest side,
+     * so check {@link DialogueEffect#isActive()} before using it.
+     * @param i the position of the effect, between {@code 0} and {@link #size()}
+     * @return the {@link DialogueEffect}
+     */
+    public DialogueEffect get(int i) {
+        return effects[(head + i) % effects.length];
+    }
+
+    /**
+     * Returns the number of effects in use.
+     * @return the number of effects
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Ends every effect.
+     */
+    public void clear() {
+        for (DialogueEffect de : effects)
+            de.deactivate();
+        head = 0;
+        count = 0;
+    }
+}
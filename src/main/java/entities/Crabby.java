@@ -1,9 +1,9 @@
 package entities;
 
 import gamestates.Playing;
+import levels.TileGrid;
 
 import static utils.Constants.Dialogue.EXCLAMATION;
-import static utils.Constants.Directions.*;
 import static utils.Constants.EnemyConstants.*;
 import static utils.HelpMethods.IsFloor;
 
@@ -11,26 +11,9 @@ public class Crabby extends Enemy {
 
     /**
      * Crabby enemy constructor.
-     * @param x The x-coordinate of the Crabby's position.
-     * @param y The y-coordinate of the Crabby's position.
-    */
-    public Crabby(float x, float y) {
-        super(x, y, CRABBY_WIDTH, CRABBY_HEIGHT, CRABBY);
-        initHitbox(22, 19);
-        initAttackBox(82, 19, 30);
-    }
-
-    /**
-     * Crabby enemy constructor with parameters for direction, health, and active state.
-     * @param x The x-coordinate of the Crabby's position.
-     * @param y The y-coordinate of the Crabby's position.
-     * @param direction The direction the Crabby is facing ({@link utils.Constants.Directions#LEFT} or {@link utils.Constants.Directions#RIGHT}).
-     * @param health The initial health of the Crabby.
-     * @param active The active state of the Crabby
      */
-    public Crabby(float x, float y, int direction, int health, boolean active) {
-        super(x, y, CRABBY_WIDTH, CRABBY_HEIGHT, CRABBY, direction, health, active);
-        initHitbox(22, 19);
+    public Crabby() {
+        super(CRABBY_WIDTH, CRABBY_HEIGHT, 22, 19, CRABBY);
         initAttackBox(82, 19, 30);
     }
 
@@ -39,10 +22,9 @@ public class Crabby extends Enemy {
      * @param lvlData The level data containing information about the environment.
      * @param playing The Playing instance that manages the game state and player interactions.
      */
-    protected void update(int[][] lvlData, Playing playing) {
+    protected void update(TileGrid lvlData, Playing playing) {
         updateBehavior(lvlData, playing);
         updateAnimationTick();
-        updateAttackBox();
     }
 
     /**
@@ -50,19 +32,19 @@ public class Crabby extends Enemy {
      * @param lvlData The level data containing information about the environment.
      * @param playing The {@link Playing} instance that manages the game state and player interactions.
      */
-    private void updateBehavior(int[][] lvlData, Playing playing) {
-        if (firstUpdate)
+    private void updateBehavior(TileGrid lvlData, Playing playing) {
+        if (store.firstUpdate[slot])
             firstUpdateCheck(lvlData);
 
-        if (inAir)
+        if (store.inAir[slot])
             inAirChecks(lvlData, playing);
         else {
-            switch (state) {
+            switch (store.state[slot]) {
                 case IDLE -> {
-                    if (IsFloor(hitbox, lvlData))
+                    if (IsFloor(getHitbox(), lvlData))
                         newState(RUNNING);
                     else
-                        inAir = true;
+                        store.inAir[slot] = true;
                 }
                 case RUNNING -> {
                     if (canSeePlayer(lvlData, playing.getPlayer())) {
@@ -73,44 +55,18 @@ public class Crabby extends Enemy {
 
                     move(lvlData);
 
-                    if (inAir)
-                        playing.addDialogue((int) hitbox.x, (int) hitbox.y, EXCLAMATION);
+                    if (store.inAir[slot])
+                        playing.addDialogue((int) store.x[slot], (int) store.y[slot], EXCLAMATION);
                 }
                 case ATTACK -> {
-                    if (animationIndex == 0)
-                        attackChecked = false;
+                    if (store.animationIndex[slot] == 0)
+                        store.attackChecked[slot] = false;
 
-                    if (animationIndex == 3 && !attackChecked)
-                        checkEnemyHit(attackBox, playing.getPlayer());
-                }
-                case HIT -> {
-                    if (animationIndex <= GetSpriteAmount(enemyType, state) - 2)
-                        pushBack(pushBackDirection, 2f, lvlData);
-                    updatePushBackDrawOffset();
+                    if (store.animationIndex[slot] == 3 && !store.attackChecked[slot])
+                        checkEnemyHit(getAttackBox(), playing.getPlayer());
                 }
+                case HIT -> updatePushBack(lvlData);
             }
         }
     }
-
-    /**
-     * Flips the Crabby's hitbox based on its walking direction.
-     * @return The x-coordinate offset for flipping the hitbox.
-     */
-    public int flipX() {
-        if (walkDir == RIGHT)
-            return width;
-        else
-            return 0;
-    }
-
-    /**
-     * Flips the Crabby's walking direction.
-     * @return The direction multiplier for flipping the walking direction.
-     */
-    public int flipW() {
-        if (walkDir == RIGHT)
-            return -1;
-        else
-            return 1;
-    }
-}
\ No newline at end of file
+}
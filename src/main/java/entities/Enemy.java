@@ -3,99 +3,195 @@ package entities;
 import java.awt.geom.Rectangle2D;
 
 import gamestates.Playing;
+import levels.TileGrid;
+import utils.SweepResult;
 
 import static utils.Constants.Directions.*;
 import static utils.Constants.EnemyConstants.*;
 import static utils.Constants.GameConstants.*;
-import static utils.Constants.Saves.DATA_SEPARATOR;
 import static utils.HelpMethods.*;
 
-public abstract class Enemy extends Entity {
-    protected int enemyType;
-    protected boolean firstUpdate = true;
-    protected int walkDir = LEFT;
-    protected int tileY;
-    protected float attackDistance = TILES_SIZE;
-    protected boolean active = true;
-    protected boolean attackChecked;
-    protected int attackBoxOffsetX;
+public abstract class Enemy {
+    protected final int enemyType;
+    protected final int width, height;
+    private final float hitboxWidth, hitboxHeight;
+    protected final float walkSpeed = SCALE * 0.35f;
+    protected final float attackDistance = TILES_SIZE;
+    private int attackBoxOffsetX;
+    protected final SweepResult sweep = new SweepResult();
+    private final Rectangle2D.Float hitbox = new Rectangle2D.Float(), attackBox = new Rectangle2D.Float();
+
+    // The entry of the enemy, which holds all its state
+    protected EnemyStore store;
+    protected int slot;
 
     /**
      * Enemy constructor.
-     * @param x The x-coordinate of the enemy's position.
-     * @param y The y-coordinate of the enemy's position.
-     * @param width The width of the enemy's hitbox.
-     * @param height The height of the enemy's hitbox.
+     * </p>
+     * The enemy only holds what is the same for every enemy of its type. It has no state until it is spawned into an {@link EnemyStore}.
+     * @param width The drawing width of the enemy.
+     * @param height The drawing height of the enemy.
+     * @param hitboxWidth The width of the enemy's hitbox.
+     * @param hitboxHeight The height of the enemy's hitbox.
      * @param enemyType The type of the enemy, determining its behavior and attributes.
      */
-    public Enemy(float x, float y, int width, int height, int enemyType) {
-        super(x, y, width, height);
+    public Enemy(int width, int height, int hitboxWidth, int hitboxHeight, int enemyType) {
+        this.width = width;
+        this.height = height;
+        this.hitboxWidth = (int) (hitboxWidth * SCALE);
+        this.hitboxHeight = (int) (hitboxHeight * SCALE);
         this.enemyType = enemyType;
-        maxHealth = GetMaxHealth(enemyType);
-        currentHealth = maxHealth;
-        walkSpeed = SCALE * 0.35f;
     }
 
     /**
-     * Enemy constructor with additional parameters for direction, health, and active state.
-     * @param x the x-coordinate of the enemy's position
-     * @param y the y-coordinate of the enemy's position
-     * @param width the width of the enemy's hitbox
-     * @param height the height of the enemy's hitbox
-     * @param enemyType the type of the enemy, determining its behavior and attributes
-     * @param direction the initial walking direction of the enemy ({@link utils.Constants.Directions#LEFT} or {@link utils.Constants.Directions#RIGHT})
-     * @param health the initial health of the enemy
+     * Initializes the attack box for the enemy.
+     * @param w the width of the attack box.
+     * @param h the height of the attack box.
+     * @param attackBoxOffsetX the x-coordinate offset for the attack box.
+     */
+    protected void initAttackBox(int w, int h, int attackBoxOffsetX) {
+        attackBox.width = (int) (w * SCALE);
+        attackBox.height = (int) (h * SCALE);
+        this.attackBoxOffsetX = (int) (attackBoxOffsetX * SCALE);
+    }
+
+    /**
+     * Adds the enemy to a store, at its spawn position, walking left with full health.
+     * @param store The {@link EnemyStore} of the level.
+     * @param x The x-coordinate of the enemy's position.
+     * @param y The y-coordinate of the enemy's position.
+     */
+    public void spawn(EnemyStore store, float x, float y) {
+        this.store = store;
+        slot = store.add(this);
+        store.spawnX[slot] = x;
+        store.spawnY[slot] = y;
+        store.width[slot] = hitboxWidth;
+        store.height[slot] = hitboxHeight;
+        store.walkDir[slot] = LEFT;
+        store.inAir[slot] = false;
+        store.attackChecked[slot] = false;
+        store.tileY[slot] = 0;
+        store.pushBackDirection[slot] = 0;
+        store.pushBackOffsetDirection[slot] = UP;
+        resetEnemy();
+    }
+
+    /**
+     * Restores the state a spawned enemy was saved with.
+     * @param direction the walking direction of the enemy ({@link utils.Constants.Directions#LEFT} or {@link utils.Constants.Directions#RIGHT})
+     * @param health the health of the enemy
      * @param active the active state of the enemy
      */
-    public Enemy(float x, float y, int width, int height, int enemyType, int direction, int health, boolean active) {
-        super(x, y, width, height);
-        this.enemyType = enemyType;
-        maxHealth = GetMaxHealth(enemyType);
-        currentHealth = (health > maxHealth || health < 0) ? maxHealth : health;
-        walkSpeed = SCALE * 0.35f;
-        walkDir = direction == LEFT ? LEFT : RIGHT;
-        this.active = active;
+    protected void restore(int direction, int health, boolean active) {
+        int maxHealth = GetMaxHealth(enemyType);
+        store.health[slot] = (health > maxHealth || health < 0) ? maxHealth : health;
+        store.walkDir[slot] = direction == LEFT ? LEFT : RIGHT;
+        store.active[slot] = active;
     }
 
     /**
-     * Update the entity's attack box position based on its hitbox.
+     * Follows the entry of the enemy after the store moved it.
+     * @param slot The new index of the enemy in the store.
      */
-    protected void updateAttackBox() {
-		attackBox.x = hitbox.x - attackBoxOffsetX;
-		attackBox.y = hitbox.y;
-	}
+    void moveTo(int slot) {
+        this.slot = slot;
+    }
 
     /**
-     * Update the entity's attack box position based on its walking direction.
+     * Returns the index of the enemy in its store.
+     * @return The index of the entry holding the enemy's state.
      */
-    protected void updateAttackBoxFlip() {
-		if (walkDir == RIGHT)
-			attackBox.x = hitbox.x + hitbox.width;
-		else
-			attackBox.x = hitbox.x - attackBoxOffsetX;
+    protected int getSlot() {
+        return slot;
+    }
 
-		attackBox.y = hitbox.y;
-	}
+    /**
+     * Get the hitbox of the enemy.
+     * </p>
+     * The rectangle is filled from the store on every call, so it is only valid until the hitbox moves.
+     * @return The hitbox ({@link Rectangle2D.Float}) of the enemy.
+     */
+    public Rectangle2D.Float getHitbox() {
+        hitbox.x = store.x[slot];
+        hitbox.y = store.y[slot];
+        hitbox.width = store.width[slot];
+        hitbox.height = store.height[slot];
+        return hitbox;
+    }
 
     /**
-     * Initializes the attack box for the enemy.
-     * @param w the width of the attack box.
-     * @param h the height of the attack box.
-     * @param attackBoxOffsetX the x-coordinate offset for the attack box.
+     * Get the attack box of the enemy, in front of its hitbox.
+     * </p>
+     * The rectangle is filled from the store on every call, so it is only valid until the hitbox moves.
+     * @return The attack box ({@link Rectangle2D.Float}) of the enemy.
      */
-    protected void initAttackBox(int w, int h, int attackBoxOffsetX) {
-        attackBox = new Rectangle2D.Float(x, y, (int) (w * SCALE), (int) (h * SCALE));
-        this.attackBoxOffsetX = (int) (attackBoxOffsetX * SCALE);
+    protected Rectangle2D.Float getAttackBox() {
+        attackBox.x = store.x[slot] - attackBoxOffsetX;
+        attackBox.y = store.y[slot];
+        return attackBox;
+    }
+
+    /**
+     * Get the attack box of the enemy, on the side it is walking to.
+     * </p>
+     * The rectangle is filled from the store on every call, so it is only valid until the hitbox moves.
+     * @return The attack box ({@link Rectangle2D.Float}) of the enemy.
+     */
+    protected Rectangle2D.Float getAttackBoxFlip() {
+        if (store.walkDir[slot] == RIGHT)
+            attackBox.x = store.x[slot] + store.width[slot];
+        else
+            attackBox.x = store.x[slot] - attackBoxOffsetX;
+
+        attackBox.y = store.y[slot];
+        return attackBox;
+    }
+
+    /**
+     * Runs the full behavior of the enemy for one update.
+     * @param lvlData The level data containing information about the environment.
+     * @param playing The {@link Playing} instance that manages the game state and player interactions.
+     */
+    protected abstract void update(TileGrid lvlData, Playing playing);
+
+    /**
+     * Checks if the enemy can be put to sleep: it must be standing or walking on the ground, not fighting, falling or dying.
+     * @return {@code true} if only its patrol needs to be simulated, {@code false} otherwise.
+     */
+    protected boolean canSleep() {
+        int state = store.state[slot];
+        return !store.firstUpdate[slot] && !store.inAir[slot] && (state == IDLE || state == RUNNING);
+    }
+
+    /**
+     * Cheap stand-in for {@link #update(TileGrid, Playing)} while the enemy is far from the screen.
+     * </p>
+     * A running enemy keeps walking back and forth, turning at walls and ledges, without looking for the player or animating.
+     * It is called once every few updates, so it moves as far as it would have in all of them.
+     * @param lvlData The level data containing information about the environment.
+     * @param ticks The number of updates this patrol step stands for.
+     */
+    protected void patrol(TileGrid lvlData, int ticks) {
+        if (store.state[slot] != RUNNING)
+            return;
+
+        float xSpeed = (store.walkDir[slot] == LEFT ? -walkSpeed : walkSpeed) * ticks;
+        SweepHitbox(getHitbox(), xSpeed, 0, lvlData, sweep);
+        if (!sweep.isHit() && IsFloor(getHitbox(), xSpeed, lvlData))
+            store.x[slot] = sweep.getX();
+        else
+            changeWalkDirection();
     }
 
     /**
      * Checks if the enemy is on the floor during the first update.
      * @param lvlData The level data containing information about the environment.
      */
-    protected void firstUpdateCheck(int[][] lvlData) {
-        firstUpdate = false;
-        if (!IsEntityOnFloor(hitbox, lvlData))
-            inAir = true;
+    protected void firstUpdateCheck(TileGrid lvlData) {
+        store.firstUpdate[slot] = false;
+        if (!IsEntityOnFloor(getHitbox(), lvlData))
+            store.inAir[slot] = true;
     }
 
     /**
@@ -103,12 +199,13 @@ public abstract class Enemy extends Entity {
      * @param lvlData The level data containing information about the environment.
      * @param playing The {@link Playing} instance that manages the game state and player interactions.
      */
-    protected void inAirChecks(int[][] lvlData, Playing playing) {
+    protected void inAirChecks(TileGrid lvlData, Playing playing) {
+        int state = store.state[slot];
         if (state != HIT && state != DEAD) {
             updateInAir(lvlData);
             playing.getObjectManager().checkSpikesTouchedEnemy(this);
-            if (IsEntityInWater(hitbox, lvlData))
-                hurt(maxHealth);
+            if (IsEntityInWater(getHitbox(), lvlData))
+                hurt(GetMaxHealth(enemyType));
         }
     }
 
@@ -116,14 +213,14 @@ public abstract class Enemy extends Entity {
      * Updates the enemy's position while in the air.
      * @param lvlData The level data containing information about the environment.
      */
-    protected void updateInAir(int[][] lvlData) {
-        if (CanMoveHere(hitbox.x, hitbox.y + airSpeed, hitbox.width, hitbox.height, lvlData)) {
-            hitbox.y += airSpeed;
-            airSpeed += GRAVITY;
-        } else {
-            inAir = false;
-            hitbox.y = GetEntityYPositionUnderRoofOrAboveFloor(hitbox, airSpeed);
-            tileY = (int) (hitbox.y / TILES_SIZE);
+    protected void updateInAir(TileGrid lvlData) {
+        SweepHitbox(getHitbox(), 0, store.airSpeed[slot], lvlData, sweep);
+        store.y[slot] = sweep.getY();
+        if (!sweep.isHit())
+            store.airSpeed[slot] += GRAVITY;
+        else {
+            store.inAir[slot] = false;
+            store.tileY[slot] = (int) (store.y[slot] / TILES_SIZE);
         }
     }
 
@@ -131,18 +228,19 @@ public abstract class Enemy extends Entity {
      * Moves the enemy based on its walking direction and state.
      * @param lvlData The level data containing information about the environment.
      */
-    protected void move(int[][] lvlData) {
+    protected void move(TileGrid lvlData) {
         float xSpeed = walkSpeed;
 
-        if (walkDir == LEFT)
+        if (store.walkDir[slot] == LEFT)
             xSpeed = -walkSpeed;
 
-        if (state == ATTACK)
+        if (store.state[slot] == ATTACK)
             xSpeed *= 2;
 
-        if (CanMoveHere(hitbox.x + xSpeed, hitbox.y, hitbox.width, hitbox.height, lvlData))
-            if (IsFloor(hitbox, xSpeed, lvlData)) {
-                hitbox.x += xSpeed;
+        SweepHitbox(getHitbox(), xSpeed, 0, lvlData, sweep);
+        if (!sweep.isHit())
+            if (IsFloor(getHitbox(), xSpeed, lvlData)) {
+                store.x[slot] = sweep.getX();
                 return;
             }
 
@@ -155,10 +253,10 @@ public abstract class Enemy extends Entity {
      * @param player The {@link Player} entity that the enemy will turn towards.
      */
     protected void turnTowardsPlayer(Player player) {
-        if (player.hitbox.x > hitbox.x)
-            walkDir = RIGHT;
+        if (player.hitbox.x > store.x[slot])
+            store.walkDir[slot] = RIGHT;
         else
-            walkDir = LEFT;
+            store.walkDir[slot] = LEFT;
     }
 
     /**
@@ -167,11 +265,47 @@ public abstract class Enemy extends Entity {
      * @param player The {@link Player} entity that the enemy will check visibility against.
      * @return {@code true} if the enemy can see the player, {@code false} otherwise.
      */
-    protected boolean canSeePlayer(int[][] lvlData, Player player) {
+    protected boolean canSeePlayer(TileGrid lvlData, Player player) {
+        if (store.sightPlanned[slot]) {
+            store.sightPlanned[slot] = false;
+            // The planned result is only used if nothing it depends on moved since, so it is always the one computed here
+            if (store.plannedX[slot] == store.x[slot] && store.plannedTileY[slot] == store.tileY[slot]
+                    && store.plannedPlayerX[slot] == player.hitbox.x && store.plannedPlayerY[slot] == player.hitbox.y)
+                return store.plannedSight[slot];
+        }
+
+        return computeSight(lvlData, player);
+    }
+
+    /**
+     * Computes ahead of the update whether the enemy can see the player, for {@link #canSeePlayer(TileGrid, Player)} to use.
+     * </p>
+     * It only reads the level, the player and the enemy itself, and only writes to the entry of the enemy, so the enemies of a
+     * level can be planned in parallel while nothing else runs.
+     * @param lvlData The level data containing information about the environment.
+     * @param player The {@link Player} entity that the enemy will check visibility against.
+     */
+    protected void planSight(TileGrid lvlData, Player player) {
+        store.plannedX[slot] = store.x[slot];
+        store.plannedTileY[slot] = store.tileY[slot];
+        store.plannedPlayerX[slot] = player.hitbox.x;
+        store.plannedPlayerY[slot] = player.hitbox.y;
+        store.plannedSight[slot] = computeSight(lvlData, player);
+        store.sightPlanned[slot] = true;
+    }
+
+    /**
+     * Checks if the enemy can see the player: the player must be on the same tile row, in range, with no wall or gap in between.
+     * @param lvlData The level data containing information about the environment.
+     * @param player The {@link Player} entity that the enemy will check visibility against.
+     * @return {@code true} if the enemy can see the player, {@code false} otherwise.
+     */
+    private boolean computeSight(TileGrid lvlData, Player player) {
+        int tileY = store.tileY[slot];
         int playerTileY = (int) (player.getHitbox().y / TILES_SIZE);
         if (playerTileY == tileY)
             if (isPlayerInRange(player))
-                if (IsSightClear(lvlData, hitbox, player.hitbox, tileY))
+                if (IsSightClear(lvlData, getHitbox(), player.hitbox, tileY))
                     return true;
 
         return false;
@@ -183,7 +317,7 @@ public abstract class Enemy extends Entity {
      * @return {@code true} if the player is within range, {@code false} otherwise.
      */
     protected boolean isPlayerInRange(Player player) {
-        int absValue = (int) Math.abs(player.hitbox.x - hitbox.x);
+        int absValue = (int) Math.abs(player.hitbox.x - store.x[slot]);
         return absValue <= attackDistance * 5;
     }
 
@@ -193,7 +327,7 @@ public abstract class Enemy extends Entity {
      * @return {@code true} if the player is close enough for an attack, {@code false} otherwise.
      */
     protected boolean isPlayerCloseForAttack(Player player) {
-        int absValue = (int) Math.abs(player.hitbox.x - hitbox.x);
+        int absValue = (int) Math.abs(player.hitbox.x - store.x[slot]);
         return switch (enemyType) {
             case CRABBY -> absValue <= attackDistance;
             case SHARK -> absValue <= attackDistance * 2;
@@ -206,9 +340,9 @@ public abstract class Enemy extends Entity {
      * @param enemyState The new state to set for the enemy.
      */
     protected void newState(int enemyState) {
-        this.state = enemyState;
-        animationIndex = 0;
-        animationTick = 0;
+        store.state[slot] = enemyState;
+        store.animationIndex[slot] = 0;
+        store.animationTick[slot] = 0;
     }
 
     /**
@@ -216,17 +350,42 @@ public abstract class Enemy extends Entity {
      * @param dmg The amount of damage to reduce from the enemy's health.
      */
     public void hurt(int dmg) {
-        currentHealth -= dmg;
-        if (currentHealth <= 0)
+        store.health[slot] -= dmg;
+        if (store.health[slot] <= 0)
             newState(DEAD);
         else {
             newState(HIT);
-            if (walkDir == LEFT)
-                pushBackDirection = RIGHT;
+            if (store.walkDir[slot] == LEFT)
+                store.pushBackDirection[slot] = RIGHT;
             else
-                pushBackDirection = LEFT;
-            pushBackOffsetDirection = UP;
-            pushDrawOffset = 0;
+                store.pushBackDirection[slot] = LEFT;
+            store.pushBackOffsetDirection[slot] = UP;
+            store.pushDrawOffset[slot] = 0;
+        }
+    }
+
+    /**
+     * Pushes the enemy back in the direction it was hit from, while it is in the hit state.
+     * @param lvlData The level data containing information about the environment.
+     */
+    protected void updatePushBack(TileGrid lvlData) {
+        if (store.animationIndex[slot] <= GetSpriteAmount(enemyType, HIT) - 2) {
+            float xSpeed = store.pushBackDirection[slot] == LEFT ? -walkSpeed : walkSpeed;
+            SweepHitbox(getHitbox(), xSpeed * 2f, 0, lvlData, sweep);
+            store.x[slot] = sweep.getX();
+        }
+
+        float speed = 0.95f;
+        float limit = -30f;
+
+        if (store.pushBackOffsetDirection[slot] == UP) {
+            store.pushDrawOffset[slot] -= speed;
+            if (store.pushDrawOffset[slot] <= limit)
+                store.pushBackOffsetDirection[slot] = DOWN;
+        } else {
+            store.pushDrawOffset[slot] += speed;
+            if (store.pushDrawOffset[slot] >= 0)
+                store.pushDrawOffset[slot] = 0;
         }
     }
 
@@ -240,36 +399,37 @@ public abstract class Enemy extends Entity {
             player.changeHealth(-GetEnemyDamage(enemyType), this);
         else if (enemyType == SHARK)
             return;
-        attackChecked = true;
+        store.attackChecked[slot] = true;
     }
 
     /**
      * Updates the animation tick for the enemy, cycling through animation frames.
      */
     protected void updateAnimationTick() {
-        animationTick++;
-        if (animationTick >= ANIMATION_SPEED) {
-            animationTick = 0;
-            animationIndex++;
-            if (animationIndex >= GetSpriteAmount(enemyType, state)) {
+        store.animationTick[slot]++;
+        if (store.animationTick[slot] >= ANIMATION_SPEED) {
+            store.animationTick[slot] = 0;
+            store.animationIndex[slot]++;
+            int state = store.state[slot];
+            if (store.animationIndex[slot] >= GetSpriteAmount(enemyType, state)) {
                 switch (enemyType) {
                     case CRABBY, SHARK -> {
-                        animationIndex = 0;
+                        store.animationIndex[slot] = 0;
 
                         switch (state) {
-                            case ATTACK, HIT -> state = IDLE;
-                            case DEAD -> active = false;
+                            case ATTACK, HIT -> store.state[slot] = IDLE;
+                            case DEAD -> store.active[slot] = false;
                         }
                     }
                     case PINKSTAR -> {
                         if (state == ATTACK)
-                            animationIndex = 3;
+                            store.animationIndex[slot] = 3;
                         else {
-                            animationIndex = 0;
+                            store.animationIndex[slot] = 0;
                             if (state == HIT)
-                                state = IDLE;
+                                store.state[slot] = IDLE;
                             else if (state == DEAD)
-                                active = false;
+                                store.active[slot] = false;
                         }
                     }
                 }
@@ -281,33 +441,29 @@ public abstract class Enemy extends Entity {
      * Changes the walking direction of the enemy.
      */
     protected void changeWalkDirection() {
-        if (walkDir == LEFT)
-            walkDir = RIGHT;
+        if (store.walkDir[slot] == LEFT)
+            store.walkDir[slot] = RIGHT;
         else
-            walkDir = LEFT;
-    }
-
-    /**
-     * Checks if the enemy is currently active.
-     * @return {@code true} if the enemy is active, {@code false} otherwise.
-     */
-    protected boolean isActive() {
-        return active;
+            store.walkDir[slot] = LEFT;
     }
 
     /**
      * Resets the enemy's state and position for reuse.
      */
     protected void resetEnemy() {
-        hitbox.x = x;
-        hitbox.y = y;
-        firstUpdate = true;
-        currentHealth = maxHealth;
+        store.x[slot] = store.spawnX[slot];
+        store.y[slot] = store.spawnY[slot];
+        store.prevX[slot] = store.x[slot];
+        store.prevY[slot] = store.y[slot];
+        store.firstUpdate[slot] = true;
+        store.health[slot] = GetMaxHealth(enemyType);
         newState(IDLE);
-        active = true;
-        airSpeed = 0;
+        store.active[slot] = true;
+        store.airSpeed[slot] = 0;
 
-        pushDrawOffset = 0;
+        store.pushDrawOffset[slot] = 0;
+        store.dormant[slot] = false;
+        store.sightPlanned[slot] = false;
     }
 
     /**
@@ -315,7 +471,7 @@ public abstract class Enemy extends Entity {
      * @return The x-coordinate offset for flipping the hitbox.
      */
     public int flipX() {
-		if (walkDir == RIGHT)
+		if (store.walkDir[slot] == RIGHT)
 			return width;
 		else
 			return 0;
@@ -326,7 +482,7 @@ public abstract class Enemy extends Entity {
      * @return {@code -1} if walking right, {@code 1} if walking left.
      */
 	public int flipW() {
-		if (walkDir == RIGHT)
+		if (store.walkDir[slot] == RIGHT)
 			return -1;
 		else
 			return 1;
@@ -335,19 +491,4 @@ public abstract class Enemy extends Entity {
     public int getEnemyType() {
         return enemyType;
     }
-
-    /**
-     * Gets the push draw offset for rendering the enemy's pushback effect.
-     * @return The push draw offset value.
-     */
-    public float getPushDrawOffset() {
-		return pushDrawOffset;
-	}
-
-    @Override
-    public String toString() {
-        String enemyString = Float.toString(hitbox.x) + DATA_SEPARATOR + Float.toString(hitbox.y) + DATA_SEPARATOR;
-        int[] data = new int[]{walkDir, currentHealth, active ? 1 : 0};
-        return enemyString + toString(data);
-    }
-}
\ No newline at end of file
+}
@@ -2,19 +2,85 @@ package entities;
 
 import gamestates.Playing;
 import levels.Level;
+import levels.TileGrid;
+import snapshots.WorldSnapshot;
 import utils.LoadSave;
+import utils.ObjectPool;
+import utils.SpatialHash;
+import utils.SpriteCache;
 
 import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
+import static utils.Constants.Directions.RIGHT;
 import static utils.Constants.EnemyConstants.*;
+import static utils.Constants.GameConstants.GAME_WIDTH;
+import static utils.Constants.GameConstants.TILES_SIZE;
 
 public class EnemyManager {
+    /**
+     * Plans the sight of one batch of the enemies that will run their full behavior.
+     * </p>
+     * The tasks are kept from one update to the next and only restarted with {@link #plan(EnemyStore, int, int, TileGrid, Player)}.
+     */
+    private static class SightPlanner extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Enemy[] batch = new Enemy[PARALLEL_AI_BATCH];
+        private int size;
+        private transient TileGrid lvlData;
+        private transient Player player;
+
+        /**
+         * Prepares the task to plan a batch of enemies.
+         * @param enemies The {@link EnemyStore} of the current level.
+         * @param planned The indices of the enemies to plan.
+         * @param from The first entry of {@code planned} in the batch.
+         * @param to The entry right after the last one in the batch.
+         * @param lvlData The level data containing information about the environment.
+         * @param player The {@link Player} the enemies look for.
+         */
+        private void plan(EnemyStore enemies, int[] planned, int from, int to, TileGrid lvlData, Player player) {
+            reinitialize();
+            size = to - from;
+            for (int i = 0; i < size; i++)
+                batch[i] = enemies.get(planned[from + i]);
+            this.lvlData = lvlData;
+            this.player = player;
+        }
+
+        /**
+         * Plans the sight of every enemy of the batch.
+         */
+        @Override
+        protected void compute() {
+            for (int i = 0; i < size; i++)
+                batch[i].planSight(lvlData, player);
+        }
+    }
+
     private Playing playing;
-    private BufferedImage[][] crabbyArr, pinkstarArr, sharkArr;
+    // Per-type tables, indexed by enemy type, so that no pass needs a branch or a loop per type
+    private final BufferedImage[][][] sprites = new BufferedImage[ENEMY_TYPE_COUNT][][];
+    private final BufferedImage[][][] flippedSprites = new BufferedImage[ENEMY_TYPE_COUNT][][];
+    private final int[] drawOffsetX = new int[ENEMY_TYPE_COUNT], drawOffsetY = new int[ENEMY_TYPE_COUNT];
+    private final boolean[] drawPushOffset = new boolean[ENEMY_TYPE_COUNT];
+    private final ArrayList<ObjectPool<Enemy>> pools = new ArrayList<>(ENEMY_TYPE_COUNT);
+
     private Level currentLevel;
+    private final SpatialHash<Enemy> enemyHash = new SpatialHash<>(1);
+    private final ArrayList<Enemy> enemyCandidates = new ArrayList<>();
+    private final ArrayList<SightPlanner> sightPlanners = new ArrayList<>();
+    private int[] planned = new int[PARALLEL_AI_THRESHOLD];
+    private int activationRadiusTiles = ACTIVATION_RADIUS_TILES;
+    private boolean parallelAi = true;
+    private int tick;
 
     /**
      * EnemyManager constructor.
@@ -23,6 +89,24 @@ public class EnemyManager {
     public EnemyManager(Playing playing) {
         this.playing = playing;
         loadEnemyImages();
+
+        for (int type = 0; type < ENEMY_TYPE_COUNT; type++) {
+            int enemyType = type;
+            pools.add(new ObjectPool<>(() -> createEnemy(enemyType)));
+        }
+    }
+
+    /**
+     * Creates a new enemy for a pool.
+     * @param enemyType The type of the enemy, like {@link utils.Constants.EnemyConstants#CRABBY}.
+     * @return The new {@link Enemy}, to be placed with {@link Enemy#spawn(EnemyStore, float, float)}.
+     */
+    private Enemy createEnemy(int enemyType) {
+        return switch (enemyType) {
+            case PINKSTAR -> new Pinkstar();
+            case SHARK -> new Shark();
+            default -> new Crabby();
+        };
     }
 
     /**
@@ -31,29 +115,56 @@ public class EnemyManager {
      */
     public void loadEnemies(Level level) {
         this.currentLevel = level;
+        rebuildEnemyHash();
+    }
+
+    /**
+     * Refills the spatial hash with every active enemy of the current level, so that hit checks only test the enemies near the attack.
+     */
+    private void rebuildEnemyHash() {
+        enemyHash.reset(currentLevel.getLevelData().getWidth());
+        EnemyStore enemies = currentLevel.getEnemies();
+        for (int i = 0; i < enemies.size(); i++)
+            if (enemies.active[i])
+                enemyHash.insert(enemies.get(i), enemies.get(i).getHitbox());
+    }
+
+    /**
+     * Keeps an enemy at the right place in the spatial hash after its update, dropping it once it is no longer active.
+     * @param enemies The {@link EnemyStore} of the current level.
+     * @param i The index of the enemy that was just updated.
+     */
+    private void updateEnemyHash(EnemyStore enemies, int i) {
+        if (enemies.active[i])
+            enemyHash.move(enemies.get(i), enemies.get(i).getHitbox());
+        else
+            enemyHash.remove(enemies.get(i));
     }
 
     /**
      * Updates the state of all active enemies in the current level.
+     * </p>
+     * When many enemies will run their full behavior, the update has two phases. Their sight checks, which only read the level
+     * and the player, are first planned in parallel on the {@link ForkJoinPool#commonPool()}. The enemies are then updated one by
+     * one in index order, so damage to the player, dialogues and state changes happen in the same order as in a serial update.
+     * A planned sight is only used if the enemy and the player are where it was computed from, otherwise it is computed again.
      * @param lvlData The level data containing information about the environment.
      */
-    public void update(int[][] lvlData) {
-        boolean isAnyActive = false;
-        for (Crabby c : currentLevel.getCrabs())
-            if (c.isActive()) {
-                c.update(lvlData, playing);
-                isAnyActive = true;
-            }
+    public void update(TileGrid lvlData) {
+        tick++;
+        int xLvlOffset = playing.getXLevelOffset();
+        float minX = xLvlOffset - activationRadiusTiles * TILES_SIZE;
+        float maxX = xLvlOffset + GAME_WIDTH + activationRadiusTiles * TILES_SIZE;
 
-        for (Pinkstar p : currentLevel.getPinkstars())
-			if (p.isActive()) {
-				p.update(lvlData, playing);
-				isAnyActive = true;
-			}
+        EnemyStore enemies = currentLevel.getEnemies();
+        if (parallelAi)
+            planSights(enemies, lvlData, minX, maxX);
 
-        for (Shark s : currentLevel.getSharks())
-            if (s.isActive()) {
-                s.update(lvlData, playing);
+        // Sleeping enemies still count as alive, the level is only completed once every enemy is dead
+        boolean isAnyActive = false;
+        for (int i = 0; i < enemies.size(); i++)
+            if (enemies.active[i]) {
+                updateEnemy(enemies, i, lvlData, minX, maxX);
                 isAnyActive = true;
             }
 
@@ -62,68 +173,136 @@ public class EnemyManager {
     }
 
     /**
-     * Draws all active enemies in the current level.
-     * @param g The {@link Graphics} object used for drawing the enemies.
-     * @param xLvlOffset The x-coordinate offset for the level, used to adjust the drawing position of enemies.
+     * Plans in parallel the sight of the enemies that will run their full behavior, if there are enough of them to be worth it.
+     * Dormant enemies never look for the player, so they don't count.
+     * @param enemies The {@link EnemyStore} of the current level.
+     * @param lvlData The level data containing information about the environment.
+     * @param minX The left edge of the activation range.
+     * @param maxX The right edge of the activation range.
      */
-    public void draw(Graphics g, int xLvlOffset) {
-        drawCrabs(g, xLvlOffset);
-        drawPinkstars(g, xLvlOffset);
-        drawSharks(g, xLvlOffset);
+    private void planSights(EnemyStore enemies, TileGrid lvlData, float minX, float maxX) {
+        int count = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            if (enemies.active[i] && (isInRange(enemies, i, minX, maxX) || !enemies.get(i).canSleep())) {
+                if (count == planned.length)
+                    planned = Arrays.copyOf(planned, count * 2);
+                planned[count++] = i;
+            }
+        }
+
+        // No shipped level has more than 13 enemies, so this always returns for now: the parallel path is only taken by
+        // crowded levels, like the ones made by a level editor or a stress test
+        if (count < PARALLEL_AI_THRESHOLD)
+            return;
+
+        int batches = (count + PARALLEL_AI_BATCH - 1) / PARALLEL_AI_BATCH;
+        while (sightPlanners.size() < batches)
+            sightPlanners.add(new SightPlanner());
+        for (int b = 0; b < batches; b++)
+            sightPlanners.get(b).plan(enemies, planned, b * PARALLEL_AI_BATCH, Math.min(count, (b + 1) * PARALLEL_AI_BATCH),
+                    lvlData, playing.getPlayer());
+
+        // The first batch runs on this thread, the others on the common pool
+        ForkJoinTask.invokeAll(sightPlanners.subList(0, batches));
     }
 
     /**
-     * Draws all active sharks in the current level.
-     * @param g The {@link Graphics} object used for drawing the sharks.
-     * @param xLevelOffset The x-coordinate offset for the level, used to adjust the drawing position of sharks.
+     * Updates one enemy at the level of detail it needs.
+     * </p>
+     * Enemies near the screen run their full behavior. Enemies further than the activation radius that are only standing or walking
+     * are put to sleep: they patrol every {@link utils.Constants.EnemyConstants#DORMANT_UPDATE_INTERVAL} updates, staggered so that
+     * they don't all move on the same update, and they wake up with their full behavior as soon as they are back in range.
+     * @param enemies The {@link EnemyStore} of the current level.
+     * @param i The index of the enemy to update, also used to stagger the patrols.
+     * @param lvlData The level data containing information about the environment.
+     * @param minX The left edge of the activation range.
+     * @param maxX The right edge of the activation range.
      */
-    private void drawSharks(Graphics g, int xLevelOffset) {
-        for (Shark s : currentLevel.getSharks())
-            if (s.isActive()) {
-                g.drawImage(sharkArr[s.getState()][s.getAnimationIndex()],
-                        (int) s.getHitbox().x - xLevelOffset - SHARK_DRAWOFFSET_X + s.flipX(),
-                        (int) s.getHitbox().y - SHARK_DRAWOFFSET_Y + (int) s.getPushDrawOffset(),
-                        SHARK_WIDTH * s.flipW(),
-                        SHARK_HEIGHT,
-                        null);
-                // s.drawHitbox(g, xLevelOffset);
-            }
+    private void updateEnemy(EnemyStore enemies, int i, TileGrid lvlData, float minX, float maxX) {
+        Enemy e = enemies.get(i);
+        if (isInRange(enemies, i, minX, maxX) || !e.canSleep()) {
+            enemies.dormant[i] = false;
+            e.update(lvlData, playing);
+        } else {
+            enemies.dormant[i] = true;
+            if ((tick + i) % DORMANT_UPDATE_INTERVAL == 0)
+                e.patrol(lvlData, DORMANT_UPDATE_INTERVAL);
+        }
+
+        updateEnemyHash(enemies, i);
     }
 
     /**
-     * Draws all active pink stars in the current level.
-     * @param g The {@link Graphics} object used for drawing the pink stars.
-     * @param xLvlOffset The x-coordinate offset for the level, used to adjust the drawing position of pink stars.
+     * Checks if an enemy is within the activation range.
+     * @param enemies The {@link EnemyStore} of the current level.
+     * @param i The index of the enemy to check.
+     * @param minX The left edge of the activation range.
+     * @param maxX The right edge of the activation range.
+     * @return {@code true} if the enemy must run its full behavior, {@code false} if it may sleep.
      */
-    private void drawPinkstars(Graphics g, int xLvlOffset) {
-        for (Pinkstar p : currentLevel.getPinkstars())
-            if (p.isActive()) {
-                g.drawImage(pinkstarArr[p.getState()][p.getAnimationIndex()],
-                        (int) p.getHitbox().x - xLvlOffset - PINKSTAR_DRAWOFFSET_X + p.flipX(),
-                        (int) p.getHitbox().y - PINKSTAR_DRAWOFFSET_Y + (int) p.getPushDrawOffset(),
-                        PINKSTAR_WIDTH * p.flipW(),
-                        PINKSTAR_HEIGHT,
-                        null);
-                // p.drawHitbox(g, xLvlOffset);
-            }
+    private static boolean isInRange(EnemyStore enemies, int i, float minX, float maxX) {
+        return enemies.x[i] + enemies.width[i] >= minX && enemies.x[i] <= maxX;
     }
 
     /**
-     * Draws all active crabs in the current level.
-     * @param g The {@link Graphics} object used for drawing the crabs.
-     * @param xLvlOffset The x-coordinate offset for the level, used to adjust the drawing position of crabs.
+     * Enables or disables the parallel planning of the enemy sight checks.
+     * @param parallelAi {@code true} to plan in parallel in crowded levels, {@code false} to always update the enemies serially.
      */
-    private void drawCrabs(Graphics g, int xLvlOffset) {
-        for (Crabby c : currentLevel.getCrabs())
-            if (c.isActive()) {
-                g.drawImage(crabbyArr[c.getState()][c.getAnimationIndex()],
-                        (int) c.getHitbox().x - CRABBY_DRAWOFFSET_X - xLvlOffset + c.flipX(),
-                        (int) c.getHitbox().y - CRABBY_DRAWOFFSET_Y,
-                        CRABBY_WIDTH * c.flipW(),
-                        CRABBY_HEIGHT,
-                        null);
-                // c.drawHAttackBox(g, xLvlOffset);
-            }
+    public void setParallelAi(boolean parallelAi) {
+        this.parallelAi = parallelAi;
+    }
+
+    /**
+     * Sets how far from the screen enemies keep running their full behavior.
+     * @param tiles The activation radius, in tiles on each side of the screen.
+     */
+    public void setActivationRadius(int tiles) {
+        activationRadiusTiles = Math.max(0, tiles);
+    }
+
+    /**
+     * Saves the current position of every enemy, so that drawing can be interpolated until the next update.
+     */
+    public void savePreviousPositions() {
+        currentLevel.getEnemies().savePreviousPositions();
+    }
+
+    /**
+     * Writes every active enemy of the current level into a snapshot layer.
+     * @param layer The {@link WorldSnapshot.SpriteLayer} of the snapshot being filled by the current update.
+     */
+    public void writeSnapshot(WorldSnapshot.SpriteLayer layer) {
+        EnemyStore enemies = currentLevel.getEnemies();
+        for (int i = 0; i < enemies.size(); i++)
+            // Sleeping enemies are far off screen
+            if (enemies.active[i] && !enemies.dormant[i])
+                layer.add(enemies.x[i], enemies.y[i], enemies.prevX[i], enemies.prevY[i], enemies.type[i], enemies.state[i],
+                        enemies.animationIndex[i], enemies.walkDir[i] == RIGHT ? -1 : 1, enemies.pushDrawOffset[i]);
+    }
+
+    /**
+     * Draws the enemies of a snapshot.
+     * @param g The {@link Graphics} object used for drawing the enemies.
+     * @param xLvlOffset The x-coordinate offset for the level, used to adjust the drawing position of enemies.
+     * @param alpha How far the renderer is between the previous update ({@code 0}) and the current one ({@code 1}).
+     * @param enemies The {@link WorldSnapshot.SpriteLayer} holding the enemies to draw.
+     */
+    public void draw(Graphics g, int xLvlOffset, float alpha, WorldSnapshot.SpriteLayer enemies) {
+        for (int i = 0; i < enemies.size(); i++) {
+            int state = enemies.getState(i);
+            int animationIndex = enemies.getAnimationIndex(i);
+            int flipW = enemies.getFlip(i);
+            int x = (int) enemies.getDrawX(i, alpha) - xLvlOffset;
+            int y = (int) enemies.getDrawY(i, alpha);
+            int type = enemies.getType(i);
+            int pushDrawOffset = drawPushOffset[type] ? (int) enemies.getOffset(i) : 0;
+
+            // The sprites are already scaled and flipped, so each enemy is a plain blit
+            g.drawImage((flipW == -1 ? flippedSprites : sprites)[type][state][animationIndex],
+                    x - drawOffsetX[type],
+                    y - drawOffsetY[type] + pushDrawOffset,
+                    null);
+        }
     }
 
     /**
@@ -131,43 +310,55 @@ public class EnemyManager {
      * @param attackBox The attack box ({@link Rectangle2D.Float}) of the player, used to detect collisions with enemies.
      */
     public void checkEnemyHit(Rectangle2D.Float attackBox) {
-        for (Crabby c : currentLevel.getCrabs())
-            if (c.isActive())
-                if (c.getState() != DEAD && c.getState() != HIT)
-                    if (attackBox.intersects(c.getHitbox())) {
-                        c.hurt(20);
-                        return;
-                    }
-
-        for (Pinkstar p : currentLevel.getPinkstars())
-            if (p.isActive()) {
-                if (p.getState() == ATTACK && p.getAnimationIndex() >= 3)
-                    return;
-                else
-                    if (p.getState() != DEAD && p.getState() != HIT)
-                        if (attackBox.intersects(p.getHitbox())) {
-                            p.hurt(20);
-                            return;
-                        }
-            }
-
-        for (Shark s : currentLevel.getSharks())
-            if (s.isActive()) {
-                if (s.getState() != DEAD && s.getState() != HIT)
-                    if (attackBox.intersects(s.getHitbox())) {
-                        s.hurt(20);
-                        return;
-                    }
+        EnemyStore enemies = currentLevel.getEnemies();
+        for (Enemy e : enemyHash.query(attackBox, enemyCandidates)) {
+            int i = e.getSlot();
+            if (!enemies.active[i] || enemies.state[i] == DEAD || enemies.state[i] == HIT)
+                continue;
+            // A rolling Pinkstar can't be hurt
+            if (enemies.type[i] == PINKSTAR && enemies.state[i] == ATTACK && enemies.animationIndex[i] >= 3)
+                continue;
+            if (attackBox.intersects(enemies.x[i], enemies.y[i], enemies.width[i], enemies.height[i])) {
+                e.hurt(20);
+                return;
             }
+        }
     }
 
     /**
-     * Loads the enemy images from the sprite atlas.
+     * Loads the enemy images from the sprite atlas, scaled to their drawing size, along with their flipped variants,
+     * and fills the per-type drawing tables.
      */
     private void loadEnemyImages() {
-        crabbyArr = getImagesArray(LoadSave.GetSpriteAtlas(LoadSave.Sprites.CRABBY_SPRITE), 9, 5, CRABBY_WIDTH_DEFAULT, CRABBY_HEIGHT_DEFAULT);
-        pinkstarArr = getImagesArray(LoadSave.GetSpriteAtlas(LoadSave.Sprites.PINKSTAR_ATLAS), 8, 5, PINKSTAR_WIDTH_DEFAULT, PINKSTAR_HEIGHT_DEFAULT);
-        sharkArr = getImagesArray(LoadSave.GetSpriteAtlas(LoadSave.Sprites.SHARK_ATLAS), 8, 5, SHARK_WIDTH_DEFAULT, SHARK_HEIGHT_DEFAULT);
+        loadEnemyType(CRABBY, LoadSave.Sprites.CRABBY_SPRITE, 9, CRABBY_WIDTH_DEFAULT, CRABBY_HEIGHT_DEFAULT, CRABBY_WIDTH, CRABBY_HEIGHT,
+                CRABBY_DRAWOFFSET_X, CRABBY_DRAWOFFSET_Y, false);
+        loadEnemyType(PINKSTAR, LoadSave.Sprites.PINKSTAR_ATLAS, 8, PINKSTAR_WIDTH_DEFAULT, PINKSTAR_HEIGHT_DEFAULT, PINKSTAR_WIDTH, PINKSTAR_HEIGHT,
+                PINKSTAR_DRAWOFFSET_X, PINKSTAR_DRAWOFFSET_Y, true);
+        loadEnemyType(SHARK, LoadSave.Sprites.SHARK_ATLAS, 8, SHARK_WIDTH_DEFAULT, SHARK_HEIGHT_DEFAULT, SHARK_WIDTH, SHARK_HEIGHT,
+                SHARK_DRAWOFFSET_X, SHARK_DRAWOFFSET_Y, true);
+    }
+
+    /**
+     * Fills the drawing tables of one enemy type.
+     * @param enemyType The type of the enemy, like {@link utils.Constants.EnemyConstants#CRABBY}.
+     * @param atlas The file name of the sprite atlas of the enemy, like {@link LoadSave.Sprites#CRABBY_SPRITE}.
+     * @param frames The number of animation frames per row of the atlas.
+     * @param spriteW The width of each sprite in the atlas.
+     * @param spriteH The height of each sprite in the atlas.
+     * @param width The drawing width of the enemy.
+     * @param height The drawing height of the enemy.
+     * @param offsetX The x-offset between the sprite and the hitbox.
+     * @param offsetY The y-offset between the sprite and the hitbox.
+     * @param pushOffset {@code true} if the sprite is moved up while the enemy is pushed back.
+     */
+    private void loadEnemyType(int enemyType, String atlas, int frames, int spriteW, int spriteH, int width, int height,
+                               int offsetX, int offsetY, boolean pushOffset) {
+        BufferedImage[][] images = getImagesArray(LoadSave.GetSpriteAtlas(atlas), frames, 5, spriteW, spriteH);
+        sprites[enemyType] = SpriteCache.GetScaled(images, width, height, false);
+        flippedSprites[enemyType] = SpriteCache.GetScaled(images, width, height, true);
+        drawOffsetX[enemyType] = offsetX;
+        drawOffsetY[enemyType] = offsetY;
+        drawPushOffset[enemyType] = pushOffset;
     }
 
     /**
@@ -191,33 +382,51 @@ public class EnemyManager {
      * Resets all enemies in the current level to their initial state.
      */
     public void resetAllEnemies() {
-        for (Crabby c : currentLevel.getCrabs())
-            c.resetEnemy();
+        EnemyStore enemies = currentLevel.getEnemies();
+        for (int i = 0; i < enemies.size(); i++)
+            enemies.get(i).resetEnemy();
 
-        for (Pinkstar p : currentLevel.getPinkstars())
-            p.resetEnemy();
-
-        for (Shark s : currentLevel.getSharks())
-            s.resetEnemy();
+        rebuildEnemyHash();
     }
 
     /**
-     * Returns a list of all enemies in the current level.
-     * @return A list of all enemies.
+     * Returns all enemies in the current level, grouped by type.
+     * @return The {@link EnemyStore} of the current level.
      */
-    public ArrayList<Enemy> getAllEnemies() {
-        return currentLevel.getAllEnemies();
+    public EnemyStore getEnemies() {
+        return currentLevel.getEnemies();
     }
 
-    public void setCrabbies(ArrayList<Crabby> crabbies) {
-        currentLevel.setCrabs(crabbies);
+    /**
+     * Takes an enemy from the pool of its type and spawns it with a saved state. It only joins the level once its store is given to {@link #setEnemies(EnemyStore)}.
+     * @param enemies The {@link EnemyStore} the enemy is spawned into.
+     * @param enemyType The type of the enemy, like {@link utils.Constants.EnemyConstants#CRABBY}.
+     * @param x The x-coordinate of the enemy's position.
+     * @param y The y-coordinate of the enemy's position.
+     * @param direction The walking direction of the enemy.
+     * @param health The health of the enemy.
+     * @param active The active state of the enemy.
+     * @return The spawned {@link Enemy}.
+     */
+    public Enemy spawnEnemy(EnemyStore enemies, int enemyType, float x, float y, int direction, int health, boolean active) {
+        Enemy enemy = pools.get(enemyType).obtain();
+        enemy.spawn(enemies, x, y);
+        enemy.restore(direction, health, active);
+        return enemy;
     }
 
-    public void setPinkstars(ArrayList<Pinkstar> pinkstars) {
-        currentLevel.setPinkstars(pinkstars);
-    }
+    /**
+     * Replaces the enemies of the current level. The replaced ones are despawned back to the pools.
+     * @param spawned The {@link EnemyStore} of the new enemies, usually filled with {@link #spawnEnemy(EnemyStore, int, float, float, int, int, boolean)}.
+     */
+    public void setEnemies(EnemyStore spawned) {
+        EnemyStore enemies = currentLevel.getEnemies();
+        for (int i = 0; i < enemies.size(); i++)
+            pools.get(enemies.type[i]).free(enemies.get(i));
+        enemies.clear();
 
-    public void setSharks(ArrayList<Shark> sharks) {
-        currentLevel.setSharks(sharks);
+        spawned.sortByType();
+        currentLevel.setEnemies(spawned);
+        rebuildEnemyHash();
     }
-}
\ No newline at end of file
+}
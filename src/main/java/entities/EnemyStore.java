@@ -0,0 +1,272 @@
+package entities;
+
+import java.util.Arrays;
+
+import static utils.Constants.EnemyConstants.ENEMY_TYPE_COUNT;
+
+public class EnemyStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Enemy[] enemies = new Enemy[INITIAL_CAPACITY];
+    private int size;
+
+    // Components, one entry per enemy, indexed like the enemies
+    int[] type = new int[INITIAL_CAPACITY];
+    float[] spawnX = new float[INITIAL_CAPACITY], spawnY = new float[INITIAL_CAPACITY];
+    // Hitbox
+    float[] x = new float[INITIAL_CAPACITY], y = new float[INITIAL_CAPACITY];
+    float[] width = new float[INITIAL_CAPACITY], height = new float[INITIAL_CAPACITY];
+    float[] prevX = new float[INITIAL_CAPACITY], prevY = new float[INITIAL_CAPACITY];
+    // Velocity
+    int[] walkDir = new int[INITIAL_CAPACITY];
+    float[] airSpeed = new float[INITIAL_CAPACITY];
+    boolean[] inAir = new boolean[INITIAL_CAPACITY];
+    // Animation
+    int[] state = new int[INITIAL_CAPACITY];
+    int[] animationIndex = new int[INITIAL_CAPACITY], animationTick = new int[INITIAL_CAPACITY];
+    // Health
+    int[] health = new int[INITIAL_CAPACITY];
+    boolean[] active = new boolean[INITIAL_CAPACITY];
+    // AI state
+    boolean[] firstUpdate = new boolean[INITIAL_CAPACITY], dormant = new boolean[INITIAL_CAPACITY];
+    boolean[] attackChecked = new boolean[INITIAL_CAPACITY];
+    int[] tileY = new int[INITIAL_CAPACITY];
+    int[] pushBackDirection = new int[INITIAL_CAPACITY], pushBackOffsetDirection = new int[INITIAL_CAPACITY];
+    float[] pushDrawOffset = new float[INITIAL_CAPACITY];
+    // Sight planned ahead of the update, along with the positions it was computed from
+    boolean[] sightPlanned = new boolean[INITIAL_CAPACITY], plannedSight = new boolean[INITIAL_CAPACITY];
+    float[] plannedX = new float[INITIAL_CAPACITY], plannedPlayerX = new float[INITIAL_CAPACITY], plannedPlayerY = new float[INITIAL_CAPACITY];
+    int[] plannedTileY = new int[INITIAL_CAPACITY];
+    // Roll of the Pinkstars, unused by the other types
+    boolean[] preRoll = new boolean[INITIAL_CAPACITY];
+    int[] tickSinceLastDmgToPlayer = new int[INITIAL_CAPACITY], tickAfterRollInIdle = new int[INITIAL_CAPACITY];
+    int[] rollDurationTick = new int[INITIAL_CAPACITY];
+
+    /**
+     * Constructor for the EnemyStore class.
+     * </p>
+     * Every enemy of a level, whatever its type, is one entry of the component arrays, grouped by type once {@link #sortByType()}
+     * is called. The arrays are the only copy of the enemies' state: an {@link Enemy} is a view over its entry, holding only what
+     * is the same for every enemy of its type, so the passes over all the enemies sweep the arrays in order.
+     */
+    public EnemyStore() {
+    }
+
+    /**
+     * Adds an enemy at the end of the store. Its components are left for {@link Enemy#spawn(EnemyStore, float, float)} to fill.
+     * @param e the {@link Enemy} to add
+     * @return the index of the enemy in the store
+     */
+    int add(Enemy e) {
+        if (size == enemies.length)
+            rearrange(size * 2, null);
+
+        enemies[size] = e;
+        type[size] = e.getEnemyType();
+        return size++;
+    }
+
+    /**
+     * Removes every enemy. The arrays are kept for the next enemies.
+     */
+    public void clear() {
+        Arrays.fill(enemies, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Groups the enemies by type, keeping their order within a type, so that they are updated, drawn and saved type by type.
+     */
+    public void sortByType() {
+        int[] start = new int[ENEMY_TYPE_COUNT + 1];
+        for (int i = 0; i < size; i++)
+            start[type[i] + 1]++;
+        for (int t = 0; t < ENEMY_TYPE_COUNT; t++)
+            start[t + 1] += start[t];
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++)
+            order[start[type[i]]++] = i;
+
+        rearrange(enemies.length, order);
+        for (int i = 0; i < size; i++)
+            enemies[i].moveTo(i);
+    }
+
+    /**
+     * Replaces every array with one of a given capacity, holding the current entries in a given order.
+     * @param capacity the length of the new arrays
+     * @param order the index of the entry to put at each index, or {@code null} to keep the current order
+     */
+    private void rearrange(int capacity, int[] order) {
+        enemies = copy(enemies, new Enemy[capacity], order);
+        type = copy(type, capacity, order);
+        spawnX = copy(spawnX, capacity, order);
+        spawnY = copy(spawnY, capacity, order);
+        x = copy(x, capacity, order);
+        y = copy(y, capacity, order);
+        width = copy(width, capacity, order);
+        height = copy(height, capacity, order);
+        prevX = copy(prevX, capacity, order);
+        prevY = copy(prevY, capacity, order);
+        walkDir = copy(walkDir, capacity, order);
+        airSpeed = copy(airSpeed, capacity, order);
+        inAir = copy(inAir, capacity, order);
+        state = copy(state, capacity, order);
+        animationIndex = copy(animationIndex, capacity, order);
+        animationTick = copy(animationTick, capacity, order);
+        health = copy(health, capacity, order);
+        active = copy(active, capacity, order);
+        firstUpdate = copy(firstUpdate, capacity, order);
+        dormant = copy(dormant, capacity, order);
+        attackChecked = copy(attackChecked, capacity, order);
+        tileY = copy(tileY, capacity, order);
+        pushBackDirection = copy(pushBackDirection, capacity, order);
+        pushBackOffsetDirection = copy(pushBackOffsetDirection, capacity, order);
+        pushDrawOffset = copy(pushDrawOffset, capacity, order);
+        sightPlanned = copy(sightPlanned, capacity, order);
+        plannedSight = copy(plannedSight, capacity, order);
+        plannedX = copy(plannedX, capacity, order);
+        plannedPlayerX = copy(plannedPlayerX, capacity, order);
+        plannedPlayerY = copy(plannedPlayerY, capacity, order);
+        plannedTileY = copy(plannedTileY, capacity, order);
+        preRoll = copy(preRoll, capacity, order);
+        tickSinceLastDmgToPlayer = copy(tickSinceLastDmgToPlayer, capacity, order);
+        tickAfterRollInIdle = copy(tickAfterRollInIdle, capacity, order);
+        rollDurationTick = copy(rollDurationTick, capacity, order);
+    }
+
+    /**
+     * Copies the entries of an array into a new one, in a given order.
+     * @param src the current array
+     * @param dst the new array
+     * @param order the index of the entry to put at each index, or {@code null} to keep the current order
+     * @return the new array
+     */
+    private <T> T[] copy(T[] src, T[] dst, int[] order) {
+        for (int i = 0; i < size; i++)
+            dst[i] = src[order == null ? i : order[i]];
+        return dst;
+    }
+
+    /**
+     * Copies the entries of an array into a new one, in a given order.
+     * @param src the current array
+     * @param capacity the length of the new array
+     * @param order the index of the entry to put at each index, or {@code null} to keep the current order
+     * @return the new array
+     */
+    private int[] copy(int[] src, int capacity, int[] order) {
+        int[] dst = new int[capacity];
+        for (int i = 0; i < size; i++)
+            dst[i] = src[order == null ? i : order[i]];
+        return dst;
+    }
+
+    /**
+     * Copies the entries of an array into a new one, in a given order.
+     * @param src the current array
+     * @param capacity the length of the new array
+     * @param order the index of the entry to put at each index, or {@code null} to keep the current order
+     * @return the new array
+     */
+    private float[] copy(float[] src, int capacity, int[] order) {
+        float[] dst = new float[capacity];
+        for (int i = 0; i < size; i++)
+            dst[i] = src[order == null ? i : order[i]];
+        return dst;
+    }
+
+    /**
+     * Copies the entries of an array into a new one, in a given order.
+     * @param src the current array
+     * @param capacity the length of the new array
+     * @param order the index of the entry to put at each index, or {@code null} to keep the current order
+     * @return the new array
+     */
+    private boolean[] copy(boolean[] src, int capacity, int[] order) {
+        boolean[] dst = new boolean[capacity];
+        for (int i = 0; i < size; i++)
+            dst[i] = src[order == null ? i : order[i]];
+        return dst;
+    }
+
+    /**
+     * Saves the current position of every enemy as its previous one, so that drawing can be interpolated until the next update.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /**
+     * Returns the number of enemies.
+     * @return the number of enemies
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the view over an enemy, to run its behavior.
+     * @param i the index of the enemy
+     * @return the {@link Enemy}
+     */
+    public Enemy get(int i) {
+        return enemies[i];
+    }
+
+    /**
+     * Returns the type of an enemy.
+     * @param i the index of the enemy
+     * @return the type of the enemy, like {@link utils.Constants.EnemyConstants#CRABBY}
+     */
+    public int getType(int i) {
+        return type[i];
+    }
+
+    /**
+     * Returns the x-coordinate of the hitbox of an enemy.
+     * @param i the index of the enemy
+     * @return the x-coordinate of the enemy
+     */
+    public float getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * Returns the y-coordinate of the hitbox of an enemy.
+     * @param i the index of the enemy
+     * @return the y-coordinate of the enemy
+     */
+    public float getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Returns the walking direction of an enemy.
+     * @param i the index of the enemy
+     * @return {@link utils.Constants.Directions#LEFT} or {@link utils.Constants.Directions#RIGHT}
+     */
+    public int getWalkDir(int i) {
+        return walkDir[i];
+    }
+
+    /**
+     * Returns the health of an enemy.
+     * @param i the index of the enemy
+     * @return the current health of the enemy
+     */
+    public int getHealth(int i) {
+        return health[i];
+    }
+
+    /**
+     * Checks if an enemy is active.
+     * @param i the index of the enemy
+     * @return {@code true} if the enemy is alive or still dying, {@code false} once it is dead
+     */
+    public boolean isActive(int i) {
+        return active[i];
+    }
+}
@@ -1,5 +1,8 @@
 package entities;
 
+import levels.TileGrid;
+import utils.SweepResult;
+
 import java.awt.Graphics;
 import java.awt.Color;
 import java.awt.geom.Rectangle2D;
@@ -7,12 +10,13 @@ import java.awt.geom.Rectangle2D;
 import static utils.Constants.Directions.*;
 import static utils.Constants.GameConstants.SCALE;
 import static utils.Constants.Saves.DATA_SEPARATOR;
-import static utils.HelpMethods.CanMoveHere;
+import static utils.HelpMethods.SweepHitbox;
 
 public abstract class Entity {
     protected float x, y;
     protected int width, height;
     protected Rectangle2D.Float hitbox;
+    protected float prevHitboxX, prevHitboxY;
     protected int animationTick, animationIndex;
     protected int state;
     protected float airSpeed;
@@ -21,6 +25,7 @@ public abstract class Entity {
     protected int currentHealth;
     protected Rectangle2D.Float attackBox;
     protected float walkSpeed;
+    protected final SweepResult sweep = new SweepResult();
 
     protected int pushBackDirection;
     protected float pushDrawOffset;
@@ -47,6 +52,17 @@ public abstract class Entity {
      */
     protected void initHitbox(int width, int height) {
         hitbox = new Rectangle2D.Float(x, y, (int) (width * SCALE), (int) (height * SCALE));
+        savePreviousPosition();
+    }
+
+    /**
+     * Stores the current hitbox position as the previous position, used to interpolate rendering between two updates.
+     * </p>
+     * This must be called once at the start of every update, and again after any teleport so that the entity isn't drawn sliding to its new position.
+     */
+    public void savePreviousPosition() {
+        prevHitboxX = hitbox.x;
+        prevHitboxY = hitbox.y;
     }
 
     /**
@@ -73,13 +89,13 @@ public abstract class Entity {
      * @param speedMulti The multiplier for the speed of the push back.
      * @param lvlData The level data containing information about the environment.
      */
-    protected void pushBack(int pushBackDirection, float speedMulti, int[][] lvlData) {
+    protected void pushBack(int pushBackDirection, float speedMulti, TileGrid lvlData) {
         float xSpeed = walkSpeed;
         if (pushBackDirection == LEFT)
             xSpeed = -walkSpeed;
 
-        if (CanMoveHere(hitbox.x + xSpeed * speedMulti, hitbox.y, hitbox.width, hitbox.height, lvlData))
-            hitbox.x += xSpeed * speedMulti;
+        SweepHitbox(hitbox, xSpeed * speedMulti, 0, lvlData, sweep);
+        hitbox.x = sweep.getX();
     }
 
     /**
@@ -3,37 +3,32 @@ package entities;
 import static utils.Constants.Dialogue.QUESTION;
 import static utils.Constants.Directions.*;
 import static utils.Constants.EnemyConstants.*;
-import static utils.HelpMethods.CanMoveHere;
+import static utils.HelpMethods.SweepHitbox;
 import static utils.HelpMethods.IsFloor;
 
 import gamestates.Playing;
+import levels.TileGrid;
 
 public class Pinkstar extends Enemy {
-    private boolean preRoll = true;
-    private int tickSinceLastDmgToPlayer, tickAfterRollInIdle;
-    private int rollDurationTick, rollDuration = 300;
+    private static final int ROLL_DURATION = 300;
 
     /**
      * Constructor for the Pinkstar enemy.
-     * @param x the x-coordinate of the Pinkstar's position
-     * @param y the y-coordinate of the Pinkstar's position
      */
-    public Pinkstar(float x, float y) {
-        super(x, y, PINKSTAR_WIDTH, PINKSTAR_HEIGHT, PINKSTAR);
-        initHitbox(17, 21);
+    public Pinkstar() {
+        super(PINKSTAR_WIDTH, PINKSTAR_HEIGHT, 17, 21, PINKSTAR);
     }
 
     /**
-     * Constructor for the Pinkstar enemy with parameters for direction, health, and active state.
-     * @param x the x-coordinate of the Pinkstar's position
-     * @param y the y-coordinate of the Pinkstar's position
-     * @param direction the direction the Pinkstar is facing ({@link utils.Constants.Directions#LEFT} or {@link utils.Constants.Directions#RIGHT})
-     * @param health the initial health of the Pinkstar
-     * @param active the active state of the Pinkstar
+     * Resets the Pinkstar, including its roll, so that a restarted or pooled Pinkstar doesn't resume the roll of its previous life.
      */
-    public Pinkstar(float x, float y, int direction, int health, boolean active) {
-        super(x, y, PINKSTAR_WIDTH, PINKSTAR_HEIGHT, PINKSTAR, direction, health, active);
-        initHitbox(17, 21);
+    @Override
+    protected void resetEnemy() {
+        super.resetEnemy();
+        store.preRoll[slot] = true;
+        store.tickSinceLastDmgToPlayer[slot] = 0;
+        store.tickAfterRollInIdle[slot] = 0;
+        store.rollDurationTick[slot] = 0;
     }
 
     /**
@@ -41,7 +36,7 @@ public class Pinkstar extends Enemy {
      * @param lvlData the level data containing information about the environment
      * @param playing the {@link Playing} instance that manages the game state and player interactions
      */
-    public void update(int[][] lvlData, Playing playing) {
+    public void update(TileGrid lvlData, Playing playing) {
         updateBehavior(lvlData, playing);
         updateAnimationTick();
     }
@@ -51,25 +46,25 @@ public class Pinkstar extends Enemy {
      * @param lvlData the level data containing information about the environment
      * @param playing the {@link Playing} instance that manages the game state and player interactions
      */
-    public void updateBehavior(int[][] lvlData, Playing playing) {
-        if (firstUpdate)
+    public void updateBehavior(TileGrid lvlData, Playing playing) {
+        if (store.firstUpdate[slot])
             firstUpdateCheck(lvlData);
 
-        if (inAir)
+        if (store.inAir[slot])
             inAirChecks(lvlData, playing);
         else {
-            switch (state) {
+            switch (store.state[slot]) {
                 case IDLE -> {
-                    preRoll = true;
-                    if (tickAfterRollInIdle >= 120) {
-                        if (IsFloor(hitbox, lvlData))
+                    store.preRoll[slot] = true;
+                    if (store.tickAfterRollInIdle[slot] >= 120) {
+                        if (IsFloor(getHitbox(), lvlData))
                             newState(RUNNING);
                         else
-                            inAir = true;
-                        tickAfterRollInIdle = 0;
-                        tickSinceLastDmgToPlayer = 60;
+                            store.inAir[slot] = true;
+                        store.tickAfterRollInIdle[slot] = 0;
+                        store.tickSinceLastDmgToPlayer[slot] = 60;
                     } else 
-                        tickAfterRollInIdle++;
+                        store.tickAfterRollInIdle[slot]++;
                 }
                 case RUNNING -> {
                     if (canSeePlayer(lvlData, playing.getPlayer())) {
@@ -79,9 +74,9 @@ public class Pinkstar extends Enemy {
                     move(lvlData, playing);
                 }
                 case ATTACK -> {
-                    if (preRoll) {
-                        if (animationIndex >= 3)
-                            preRoll = false;
+                    if (store.preRoll[slot]) {
+                        if (store.animationIndex[slot] >= 3)
+                            store.preRoll[slot] = false;
                     } else {
                         move(lvlData, playing);
                         checkDamageToPlayer(playing.getPlayer());
@@ -89,10 +84,8 @@ public class Pinkstar extends Enemy {
                     }
                 }
                 case HIT -> {
-                    if (animationIndex <= GetSpriteAmount(enemyType, state) - 2)
-                        pushBack(pushBackDirection, 2f, lvlData);
-                    updatePushBackDrawOffset();
-                    tickAfterRollInIdle = 120;
+                    updatePushBack(lvlData);
+                    store.tickAfterRollInIdle[slot] = 120;
                 }
             }
         }
@@ -103,12 +96,12 @@ public class Pinkstar extends Enemy {
      * @param player the {@link Player} instance to check for damage
      */
     private void checkDamageToPlayer(Player player) {
-        if (hitbox.intersects(player.getHitbox()))
-            if (tickSinceLastDmgToPlayer >= 60) {
-                tickSinceLastDmgToPlayer = 0;
+        if (getHitbox().intersects(player.getHitbox()))
+            if (store.tickSinceLastDmgToPlayer[slot] >= 60) {
+                store.tickSinceLastDmgToPlayer[slot] = 0;
                 player.changeHealth(-GetEnemyDamage(enemyType), this);
             } else
-                tickSinceLastDmgToPlayer++;
+                store.tickSinceLastDmgToPlayer[slot]++;
     }
 
     /**
@@ -116,10 +109,10 @@ public class Pinkstar extends Enemy {
      * @param player the {@link Player} instance to determine the walking direction
      */
     private void setWalkDirection(Player player) {
-        if (player.getHitbox().x > hitbox.x)
-            walkDir = RIGHT;
+        if (player.getHitbox().x > store.x[slot])
+            store.walkDir[slot] = RIGHT;
         else
-            walkDir = LEFT;
+            store.walkDir[slot] = LEFT;
     }
 
     /**
@@ -127,24 +120,25 @@ public class Pinkstar extends Enemy {
      * @param lvlData the level data containing information about the environment
      * @param playing the {@link Playing} instance that manages the game state and player interactions
      */
-    protected void move(int[][] lvlData, Playing playing) {
+    protected void move(TileGrid lvlData, Playing playing) {
         float xSpeed = walkSpeed;
 
-        if (walkDir == LEFT)
+        if (store.walkDir[slot] == LEFT)
             xSpeed = -walkSpeed;
 
-        if (state == ATTACK)
+        if (store.state[slot] == ATTACK)
             xSpeed *= 2;
 
-        if (CanMoveHere(hitbox.x + xSpeed, hitbox.y, hitbox.width, hitbox.height, lvlData))
-            if (IsFloor(hitbox, xSpeed, lvlData)) {
-                hitbox.x += xSpeed;
+        SweepHitbox(getHitbox(), xSpeed, 0, lvlData, sweep);
+        if (!sweep.isHit())
+            if (IsFloor(getHitbox(), xSpeed, lvlData)) {
+                store.x[slot] = sweep.getX();
                 return;
             }
 
-        if (state == ATTACK) {
+        if (store.state[slot] == ATTACK) {
             rollOver(playing);
-            rollDurationTick = 0;
+            store.rollDurationTick[slot] = 0;
         }
 
         changeWalkDirection();
@@ -155,10 +149,10 @@ public class Pinkstar extends Enemy {
      * @param playing the {@link Playing} instance that manages the game state and player interactions
      */
     private void checkRollOver(Playing playing) {
-        rollDurationTick++;
-        if (rollDurationTick >= rollDuration) {
+        store.rollDurationTick[slot]++;
+        if (store.rollDurationTick[slot] >= ROLL_DURATION) {
             rollOver(playing);
-            rollDurationTick = 0;
+            store.rollDurationTick[slot] = 0;
         }
     }
 
@@ -168,6 +162,6 @@ public class Pinkstar extends Enemy {
      */
     private void rollOver(Playing playing) {
         newState(IDLE);
-        playing.addDialogue((int) hitbox.x, (int) hitbox.y, QUESTION);
+        playing.addDialogue((int) store.x[slot], (int) store.y[slot], QUESTION);
     }
 }
\ No newline at end of file
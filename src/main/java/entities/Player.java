@@ -1,7 +1,9 @@
 package entities;
 
 import gamestates.Playing;
+import levels.TileGrid;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import static utils.Constants.Directions.*;
 import static utils.Constants.GameConstants.*;
@@ -14,12 +16,13 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
 import audio.AudioPlayer;
+import snapshots.WorldSnapshot;
 
 public class Player extends Entity {
-    private BufferedImage[][] animations;
+    private BufferedImage[][] animations, flippedAnimations;
     private boolean moving = false, attacking = false;
     private boolean left, right, jump;
-    private int[][] lvlData;
+    private TileGrid lvlData;
     private float xDrawOffset = 21 * SCALE;
     private float yDrawOffset = 4 * SCALE;
 
@@ -49,7 +52,6 @@ public class Player extends Entity {
     private int powerMaxValue = 200;
     private int powerValue = powerMaxValue;
 
-    private int flipX = 0;
     private int flipW = 1;
 
     private boolean attackChecked;
@@ -90,6 +92,7 @@ public class Player extends Entity {
         this.y = spawn.y;
         hitbox.x = x;
         hitbox.y = y;
+        savePreviousPosition();
     }
 
     /**
@@ -111,6 +114,7 @@ public class Player extends Entity {
         // Update hitbox position
         hitbox.x = x;
         hitbox.y = y;
+        savePreviousPosition();
     }
 
     /**
@@ -148,12 +152,14 @@ public class Player extends Entity {
             } else {
                 updateAnimationTick();
 
-                if (inAir)
-                    if (CanMoveHere(hitbox.x, hitbox.y + airSpeed, hitbox.width, hitbox.height, lvlData)) {
-                        hitbox.y += airSpeed;
-                        airSpeed += GRAVITY;
-                    } else
+                if (inAir) {
+                    SweepHitbox(hitbox, 0, airSpeed, lvlData, sweep);
+                    hitbox.y = sweep.getY();
+                    if (sweep.isHit())
                         inAir = false;
+                    else
+                        airSpeed += GRAVITY;
+                }
             }
             return;
         }
@@ -283,37 +289,50 @@ public class Player extends Entity {
     }
 
     /**
-     * Draws the player on the screen.
+     * Writes what is needed to draw the player into a snapshot.
+     * @param snapshot The {@link WorldSnapshot} being filled by the current update.
+     */
+    public void writeSnapshot(WorldSnapshot snapshot) {
+        snapshot.getPlayer().add(hitbox.x, hitbox.y, prevHitboxX, prevHitboxY, 0, state, animationIndex, flipW, pushDrawOffset);
+        snapshot.setPlayerBars(healthWidth, powerWidth);
+    }
+
+    /**
+     * Draws the player on the screen, as it was in the given snapshot.
      * @param g The {@link Graphics} object used for drawing.
      * @param xLvlOffset The x-coordinate offset for the level, used to adjust the drawing position of the player.
+     * @param alpha How far the renderer is between the previous update ({@code 0}) and the current one ({@code 1}).
+     * @param snapshot The {@link WorldSnapshot} to draw the player from.
      */
-    public void render(Graphics g, int xLvlOffset) {
-        g.drawImage(animations[state][animationIndex],
-                (int) (hitbox.x - xDrawOffset) - xLvlOffset + flipX,
-                (int) (hitbox.y - yDrawOffset) + (int) pushDrawOffset,
-                width * flipW,
-                height,
+    public void render(Graphics g, int xLvlOffset, float alpha, WorldSnapshot snapshot) {
+        WorldSnapshot.SpriteLayer layer = snapshot.getPlayer();
+        int flip = layer.getFlip(0);
+
+        g.drawImage((flip == -1 ? flippedAnimations : animations)[layer.getState(0)][layer.getAnimationIndex(0)],
+                (int) (layer.getDrawX(0, alpha) - xDrawOffset) - xLvlOffset,
+                (int) (layer.getDrawY(0, alpha) - yDrawOffset) + (int) layer.getOffset(0),
                 null);
         // drawHitbox(g, xLvlOffset);
         // drawAttackBox(g, xLvlOffset);
-        drawUI(g);
+        drawUI(g, snapshot);
     }
 
     /**
      * Draws the user interface elements such as the status bar, health bar, and power bar.
      * @param g The {@link Graphics} object used for drawing the UI elements.
+     * @param snapshot The {@link WorldSnapshot} holding the width of the bars.
      */
-    private void drawUI(Graphics g) {
+    private void drawUI(Graphics g, WorldSnapshot snapshot) {
         // Background UI
-        g.drawImage(statusBarImg, statusBarX, statusBarY, statusBarWidth, statusBarHeight, null);
+        g.drawImage(statusBarImg, statusBarX, statusBarY, null);
 
         // Health Bar
         g.setColor(Color.RED);
-        g.fillRect(healthBarXStart + statusBarX, healthBarYStart + statusBarY, healthWidth, healthBarHeight);
+        g.fillRect(healthBarXStart + statusBarX, healthBarYStart + statusBarY, snapshot.getPlayerHealthWidth(), healthBarHeight);
 
         // Power Bar
         g.setColor(Color.YELLOW);
-        g.fillRect(powerBarXStart + statusBarX, powerBarYStart + statusBarY, powerWidth, powerBarHeight);
+        g.fillRect(powerBarXStart + statusBarX, powerBarYStart + statusBarY, snapshot.getPlayerPowerWidth(), powerBarHeight);
     }
 
     /**
@@ -405,13 +424,11 @@ public class Player extends Entity {
 
         if (left && !right) {
             xSpeed -= walkSpeed;
-            flipX = width;
             flipW = -1;
         }
 
         if (right && !left) {
             xSpeed += walkSpeed;
-            flipX = 0;
             flipW = 1;
         }
 
@@ -430,11 +447,11 @@ public class Player extends Entity {
             inAir = true;
         
         if (inAir && !powerAttackActive) {
-            if (CanMoveHere(hitbox.x, hitbox.y + airSpeed, hitbox.width, hitbox.height, lvlData)) {
-                hitbox.y += airSpeed;
+            SweepHitbox(hitbox, 0, airSpeed, lvlData, sweep);
+            hitbox.y = sweep.getY();
+            if (!sweep.isHit())
                 airSpeed += GRAVITY;
-            } else {
-                hitbox.y = GetEntityYPositionUnderRoofOrAboveFloor(hitbox, airSpeed);
+            else {
                 if (airSpeed > 0)
                     resetInAir();
                 else
@@ -471,10 +488,9 @@ public class Player extends Entity {
      * @param xSpeed The speed at which the player moves horizontally.
      */
     private void updateXPosition(float xSpeed) {
-        if (CanMoveHere(hitbox.x + xSpeed, hitbox.y, hitbox.width, hitbox.height, lvlData))
-            hitbox.x += xSpeed;
-        else {
-            hitbox.x = GetEntityXPositionNextToWall(hitbox, xSpeed);
+        SweepHitbox(hitbox, xSpeed, 0, lvlData, sweep);
+        hitbox.x = sweep.getX();
+        if (sweep.isHit()) {
             if (powerAttackActive) {
                 powerAttackActive = false;
                 powerAttackTick = 0;
@@ -538,23 +554,27 @@ public class Player extends Entity {
 
     /**
      * Loads the player animations from the sprite atlas and initializes the status bar image.
+     * The sprites are scaled to the player's size once here, and flipped for when the player faces left.
      */
     private void loadAnimations() {
         BufferedImage playerSprites = LoadSave.GetSpriteAtlas(LoadSave.Sprites.PLAYER_ATLAS);
 
-        animations = new BufferedImage[NUM_ANIMATIONS][MAX_NUM_SPRITES];
+        BufferedImage[][] sprites = new BufferedImage[NUM_ANIMATIONS][MAX_NUM_SPRITES];
         for (int j = 0; j < NUM_ANIMATIONS; j++)
             for (int i = 0; i < MAX_NUM_SPRITES; i++)
-                animations[j][i] = playerSprites.getSubimage(i * IMAGE_WIDTH, j * IMAGE_HEIGHT, IMAGE_WIDTH, IMAGE_HEIGHT);
+                sprites[j][i] = playerSprites.getSubimage(i * IMAGE_WIDTH, j * IMAGE_HEIGHT, IMAGE_WIDTH, IMAGE_HEIGHT);
+
+        animations = SpriteCache.GetScaled(sprites, width, height, false);
+        flippedAnimations = SpriteCache.GetScaled(sprites, width, height, true);
 
-        statusBarImg = LoadSave.GetSpriteAtlas(LoadSave.Images.STATUS_BAR);
+        statusBarImg = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.Images.STATUS_BAR), statusBarWidth, statusBarHeight);
     }
 
     /**
      * Loads the level data for collision detection.
-     * @param lvlData The 2D array representing the level data.
+     * @param lvlData The {@link TileGrid} representing the level data.
      */
-    public void loadLvlData(int[][] lvlData) {
+    public void loadLvlData(TileGrid lvlData) {
         this.lvlData = lvlData;
         if (!IsEntityOnFloor(hitbox, lvlData))
             inAir = true;
@@ -673,6 +693,7 @@ public class Player extends Entity {
 
         hitbox.x = x;
         hitbox.y = y;
+        savePreviousPosition();
         resetAttackBox();
 
         if (!IsEntityOnFloor(hitbox, lvlData))
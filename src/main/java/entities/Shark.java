@@ -6,31 +6,15 @@ import static utils.Constants.EnemyConstants.*;
 import static utils.HelpMethods.*;
 
 import gamestates.Playing;
+import levels.TileGrid;
 
 public class Shark extends Enemy {
 
     /**
      * Constructor for the Shark enemy.
-     * @param x The x-coordinate of the Shark's position.
-     * @param y The y-coordinate of the Shark's position.
      */
-    public Shark(float x, float y) {
-        super(x, y, SHARK_WIDTH, SHARK_HEIGHT, SHARK);
-        initHitbox(18, 22);
-        initAttackBox(20, 18, 20);
-    }
-
-    /**
-     * Constructor for the Shark enemy with parameters for direction, health, and active state.
-     * @param x The x-coordinate of the Shark's position.
-     * @param y The y-coordinate of the Shark's position.
-     * @param direction The direction the Shark is facing ({@link utils.Constants.Directions#LEFT} or {@link utils.Constants.Directions#RIGHT}).
-     * @param health The initial health of the Shark.
-     * @param active The active state of the Shark
-     */
-    public Shark(float x, float y, int direction, int health, boolean active) {
-        super(x, y, SHARK_WIDTH, SHARK_HEIGHT, SHARK, direction, health, active);
-        initHitbox(18, 22);
+    public Shark() {
+        super(SHARK_WIDTH, SHARK_HEIGHT, 18, 22, SHARK);
         initAttackBox(20, 18, 20);
     }
 
@@ -39,10 +23,9 @@ public class Shark extends Enemy {
      * @param lvlData The level data containing information about the environment.
      * @param playing The {@link Playing} instance that manages the game state and player interactions.
      */
-    public void update(int[][] lvlData, Playing playing) {
+    public void update(TileGrid lvlData, Playing playing) {
         updateBehavior(lvlData, playing);
         updateAnimationTick();
-        updateAttackBoxFlip();
     }
 
     /**
@@ -50,19 +33,19 @@ public class Shark extends Enemy {
      * @param lvlData The level data containing information about the environment.
      * @param playing The {@link Playing} instance that manages the game state and player interactions.
      */
-    private void updateBehavior(int[][] lvlData, Playing playing) {
-        if (firstUpdate)
+    private void updateBehavior(TileGrid lvlData, Playing playing) {
+        if (store.firstUpdate[slot])
             firstUpdateCheck(lvlData);
 
-        if (inAir)
+        if (store.inAir[slot])
             inAirChecks(lvlData, playing);
         else {
-            switch (state) {
+            switch (store.state[slot]) {
                 case IDLE -> {
-                    if (IsFloor(hitbox, lvlData))
+                    if (IsFloor(getHitbox(), lvlData))
                         newState(RUNNING);
                     else
-                        inAir = true;
+                        store.inAir[slot] = true;
                 }
                 case RUNNING -> {
                     if (canSeePlayer(lvlData, playing.getPlayer())) {
@@ -73,19 +56,15 @@ public class Shark extends Enemy {
                     move(lvlData);
                 }
                 case ATTACK -> {
-                    if (animationIndex == 0)
-                        attackChecked = false;
-                    else if (animationIndex == 3) {
-                        if (!attackChecked)
-                            checkEnemyHit(attackBox, playing.getPlayer());
+                    if (store.animationIndex[slot] == 0)
+                        store.attackChecked[slot] = false;
+                    else if (store.animationIndex[slot] == 3) {
+                        if (!store.attackChecked[slot])
+                            checkEnemyHit(getAttackBoxFlip(), playing.getPlayer());
                         attackMove(lvlData, playing);
                     }
                 }
-                case HIT -> {
-                    if (animationIndex <= GetSpriteAmount(enemyType, state) - 2)
-                        pushBack(pushBackDirection, 2f, lvlData);
-                    updatePushBackDrawOffset();
-                }
+                case HIT -> updatePushBack(lvlData);
             }
         }
     }
@@ -95,19 +74,20 @@ public class Shark extends Enemy {
      * @param lvlData The level data containing information about the environment.
      * @param playing The {@link Playing} instance that manages the game state and player interactions.
      */
-    protected void attackMove(int[][] lvlData, Playing playing) {
+    protected void attackMove(TileGrid lvlData, Playing playing) {
         float xSpeed = walkSpeed;
         int multiplier = 4;
 
-        if (walkDir == LEFT)
+        if (store.walkDir[slot] == LEFT)
             xSpeed = -walkSpeed;
 
-        if (CanMoveHere(hitbox.x + xSpeed * multiplier, hitbox.y, hitbox.width, hitbox.height, lvlData))
-            if (IsFloor(hitbox, xSpeed * multiplier, lvlData)) {
-                hitbox.x += xSpeed * multiplier;
+        SweepHitbox(getHitbox(), xSpeed * multiplier, 0, lvlData, sweep);
+        if (!sweep.isHit())
+            if (IsFloor(getHitbox(), xSpeed * multiplier, lvlData)) {
+                store.x[slot] = sweep.getX();
                 return;
             }
         newState(IDLE);
-        playing.addDialogue((int) hitbox.x, (int) hitbox.y, EXCLAMATION);
+        playing.addDialogue((int) store.x[slot], (int) store.y[slot], EXCLAMATION);
     }
 }
\ No newline at end of file
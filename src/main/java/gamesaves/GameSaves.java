@@ -1,33 +1,29 @@
 package gamesaves;
 
-import static utils.Constants.EnemyConstants.CRABBY;
-import static utils.Constants.EnemyConstants.PINKSTAR;
-import static utils.Constants.EnemyConstants.SHARK;
+import static utils.Constants.EnemyConstants.ENEMY_TYPE_COUNT;
 import static utils.Constants.Saves.*;
 import static utils.HelpMethods.IsInt;
 import static utils.HelpMethods.IsFloat;
 
 import java.io.BufferedReader;
-import java.util.ArrayList;
 
-import entities.Crabby;
-import entities.Enemy;
-import entities.Pinkstar;
+import entities.EnemyStore;
 import entities.Player;
-import entities.Shark;
 import gamestates.Playing;
-import mainWindow.Game;
 import utils.LoadSave;
 
 public class GameSaves {
-    private Game game;
+    private Playing playing;
 
     /**
      * Constructor for the GameSaves class.
-     * @param game the {@link Game} instance.
+     * </p>
+     * It takes the {@link Playing} state directly rather than the {@link mainWindow.Game}, since the saved game is loaded
+     * while the playing state is still being built, before the game can hand it out.
+     * @param playing the {@link Playing} instance.
      */
-    public GameSaves(Game game) {
-        this.game = game;
+    public GameSaves(Playing playing) {
+        this.playing = playing;
     }
 
     /**
@@ -35,9 +31,9 @@ public class GameSaves {
      */
     public void saveGame() {
         StringBuilder saveData = new StringBuilder();
-        ArrayList<Enemy> allEnemies = game.getPlaying().getEnemyManager().getAllEnemies();
-        Player player = game.getPlaying().getPlayer();
-        int currentLevelIndex = game.getPlaying().getLevelManager().getLevelIndex();
+        EnemyStore allEnemies = playing.getEnemyManager().getEnemies();
+        Player player = playing.getPlayer();
+        int currentLevelIndex = playing.getLevelManager().getLevelIndex();
 
         // Save current level index
         saveData.append(LEVEL_DECLARATION).append(Integer.toString(currentLevelIndex)).append("\n");
@@ -46,16 +42,21 @@ public class GameSaves {
         saveData.append(PLAYER_DECLARATION).append(player.toString()).append("\n");
 
         // Save enemies data
-        int currentEnemyType = allEnemies.get(0).getEnemyType();
+        int currentEnemyType = allEnemies.getType(0);
         saveData.append(ENEMIES_DECLARATION).append(currentEnemyType).append(DATA_EQUAL);
 
-        for (Enemy enemy : allEnemies) {
-            if (currentEnemyType != enemy.getEnemyType()) {
-                currentEnemyType = enemy.getEnemyType();
+        for (int i = 0; i < allEnemies.size(); i++) {
+            if (currentEnemyType != allEnemies.getType(i)) {
+                currentEnemyType = allEnemies.getType(i);
                 saveData.append(TYPE_SEPARATOR).append(currentEnemyType).append(DATA_EQUAL);
             }
 
-            saveData.append(enemy.toString()).append(ENTITY_SEPARATOR);
+            saveData.append(allEnemies.getX(i)).append(DATA_SEPARATOR)
+                    .append(allEnemies.getY(i)).append(DATA_SEPARATOR)
+                    .append(allEnemies.getWalkDir(i)).append(DATA_SEPARATOR)
+                    .append(allEnemies.getHealth(i)).append(DATA_SEPARATOR)
+                    .append(allEnemies.isActive(i) ? 1 : 0)
+                    .append(ENTITY_SEPARATOR);
         }
 
         // Remove the last ENTITY_SEPARATOR
@@ -80,9 +81,7 @@ public class GameSaves {
      * This method initializes the enemies and objects in the current level based on the saved data.
      */
     public void loadGame() {
-        ArrayList<Crabby> crabbies = new ArrayList<>();
-        ArrayList<Pinkstar> pinkstars = new ArrayList<>();
-        ArrayList<Shark> sharks = new ArrayList<>();
+        EnemyStore enemies = new EnemyStore();
 
         boolean levelUpdated = false, playerUpdated = false, enemiesUpdated = false;
 
@@ -108,7 +107,7 @@ public class GameSaves {
                         if (!levelUpdated && IsInt(value)) {
                             levelUpdated = true;
                             int levelIndex = Integer.parseInt(value);
-                            game.getPlaying().getLevelManager().setLevelIndex(levelIndex);
+                            playing.getLevelManager().setLevelIndex(levelIndex);
                         }
                     }
                     case PLAYER -> {
@@ -134,7 +133,7 @@ public class GameSaves {
                             int playerHealth = Integer.parseInt(playerData[4]);
                             int playerPower = Integer.parseInt(playerData[5]);
 
-                            game.getPlaying().getPlayer().setPlayer(playerX, playerY, playerLeft, playerRight, playerHealth, playerPower);
+                            playing.getPlayer().setPlayer(playerX, playerY, playerLeft, playerRight, playerHealth, playerPower);
                         }
                     }
                     case ENEMIES -> {
@@ -178,11 +177,8 @@ public class GameSaves {
                                 if (entityParts[4].equals("0"))
                                     active = false;
 
-                                switch (enemyType) {
-                                    case CRABBY -> crabbies.add(new Crabby(x, y, walkDir, currentHealth, active));
-                                    case PINKSTAR -> pinkstars.add(new Pinkstar(x, y, walkDir, currentHealth, active));
-                                    case SHARK -> sharks.add(new Shark(x, y, walkDir, currentHealth, active));
-                                }
+                                if (enemyType >= 0 && enemyType < ENEMY_TYPE_COUNT)
+                                    playing.getEnemyManager().spawnEnemy(enemies, enemyType, x, y, walkDir, currentHealth, active);
                             }
                         }
                     }
@@ -198,26 +194,22 @@ public class GameSaves {
             e.printStackTrace();
         }
 
-        Playing playingState = game.getPlaying();
-
         if (!levelUpdated)
-            playingState.getLevelManager().setLevelIndex(0);
+            playing.getLevelManager().setLevelIndex(0);
 
         if (!playerUpdated)
-            playingState.getPlayer().setSpawn(playingState.getLevelManager().getCurrentLevel().getPlayerSpawn());
+            playing.getPlayer().setSpawn(playing.getLevelManager().getCurrentLevel().getPlayerSpawn());
 
-        playingState.getPlayer().loadLvlData(playingState.getLevelManager().getCurrentLevel().getLevelData());
+        playing.getPlayer().loadLvlData(playing.getLevelManager().getCurrentLevel().getLevelData());
 
-        playingState.getEnemyManager().loadEnemies(playingState.getLevelManager().getCurrentLevel());
+        playing.getEnemyManager().loadEnemies(playing.getLevelManager().getCurrentLevel());
 
         if (enemiesUpdated) {
             // Set the saved enemy data
-            playingState.getEnemyManager().setCrabbies(crabbies);
-            playingState.getEnemyManager().setPinkstars(pinkstars);
-            playingState.getEnemyManager().setSharks(sharks);
+            playing.getEnemyManager().setEnemies(enemies);
         }
 
         // Always load objects from the current level
-        playingState.getObjectManager().loadObjects(playingState.getLevelManager().getCurrentLevel());
+        playing.getObjectManager().loadObjects(playing.getLevelManager().getCurrentLevel());
     }
 }
\ No newline at end of file
@@ -10,9 +10,12 @@ import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import mainWindow.Game;
+import utils.AssetManager;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 public class Credits extends State implements Statemethods {
     private final String HEADER_1 = "#";
@@ -28,7 +31,7 @@ public class Credits extends State implements Statemethods {
 
     private BufferedImage backgroundImg;
     private ArrayList<CreditsItem> creditsItems = new ArrayList<>();
-    private Font font;
+    private CompletableFuture<Font> font;
 
 
 
@@ -131,10 +134,10 @@ public class Credits extends State implements Statemethods {
     }
 
     /**
-     * Loads the font used for displaying credits.
+     * Starts loading the font used for displaying credits on the asset threads. It is only waited for when the credits are first drawn.
      */
     private void loadFont() {
-        font = LoadSave.GetFont(LoadSave.Fonts.TITLE);
+        font = AssetManager.Submit(() -> LoadSave.GetFont(LoadSave.Fonts.TITLE));
     }
 
     /**
@@ -177,7 +180,7 @@ public class Credits extends State implements Statemethods {
      * Loads the background image for the credits screen.
      */
     private void loadBackgroundImage() {
-        backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.Images.MENU_BACKGROUND_IMAGE);
+        backgroundImg = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.Images.MENU_BACKGROUND_IMAGE), GAME_WIDTH, GAME_HEIGHT);
     }
 
     /**
@@ -212,7 +215,7 @@ public class Credits extends State implements Statemethods {
 
     @Override
     public void draw(Graphics g) {
-        g.drawImage(backgroundImg, 0, 0, GAME_WIDTH, GAME_HEIGHT, null);
+        g.drawImage(backgroundImg, 0, 0, null);
 
         drawCreditsItems(g);
     }
@@ -223,6 +226,7 @@ public class Credits extends State implements Statemethods {
      */
     private void drawCreditsItems(Graphics g) {
         g.setColor(Color.BLACK);
+        Font creditsFont = font.join();
         float fontSize = 16f * SCALE;
         for (CreditsItem ci : creditsItems)
             if (ci.isActive()) {
@@ -232,7 +236,7 @@ public class Credits extends State implements Statemethods {
                     case TYPE_HEADER_3 -> fontSize = 20f * SCALE;
                     case TYPE_TEXT -> fontSize = 16f * SCALE;
                 }
-                g.setFont(font.deriveFont(fontSize));
+                g.setFont(creditsFont.deriveFont(fontSize));
                 g.drawString(ci.getText(), ci.getX(), ci.getY());
             }
     }
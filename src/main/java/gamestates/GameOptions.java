@@ -4,6 +4,7 @@ import mainWindow.Game;
 import ui.AudioOptions;
 import ui.UrmButton;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.Graphics;
 import java.awt.event.KeyEvent;
@@ -45,11 +46,12 @@ public class GameOptions extends State implements Statemethods {
      * Loads the background images for the options menu.
      */
     private void loadImages() {
-        backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.Images.MENU_BACKGROUND_IMAGE);
+        backgroundImg = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.Images.MENU_BACKGROUND_IMAGE), GAME_WIDTH, GAME_HEIGHT);
         optionsBackgroundImg = LoadSave.GetSpriteAtlas(LoadSave.Images.OPTIONS_MENU);
 
         bgW = (int) (optionsBackgroundImg.getWidth() * SCALE);
         bgH = (int) (optionsBackgroundImg.getHeight() * SCALE);
+        optionsBackgroundImg = SpriteCache.GetScaled(optionsBackgroundImg, bgW, bgH);
         bgX = GAME_WIDTH / 2 - bgW / 2;
         bgY = (int) (13 * SCALE);
     }
@@ -62,8 +64,8 @@ public class GameOptions extends State implements Statemethods {
 
     @Override
     public void draw(Graphics g) {
-        g.drawImage(backgroundImg, 0, 0, GAME_WIDTH, GAME_HEIGHT, null);
-        g.drawImage(optionsBackgroundImg, bgX, bgY, bgW, bgH, null);
+        g.drawImage(backgroundImg, 0, 0, null);
+        g.drawImage(optionsBackgroundImg, bgX, bgY, null);
 
         menuBtn.draw(g);
         audioOptions.draw(g);
@@ -4,6 +4,7 @@ import mainWindow.Game;
 import ui.GitHubButton;
 import ui.MenuButton;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import static utils.Constants.GameConstants.*;
 import static utils.Constants.UI.PauseButtons.SOUND_SIZE_DEFAULT;
@@ -30,7 +31,7 @@ public class Menu extends State implements Statemethods {
 
         loadButtons();
         loadBackground();
-        backgroundImgPink = LoadSave.GetSpriteAtlas(LoadSave.Images.MENU_BACKGROUND_IMAGE);
+        backgroundImgPink = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.Images.MENU_BACKGROUND_IMAGE), GAME_WIDTH, GAME_HEIGHT);
     }
 
     /**
@@ -40,6 +41,7 @@ public class Menu extends State implements Statemethods {
         backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.Images.MENU_BACKGROUND);
         menuWidth = (int) (backgroundImg.getWidth() * SCALE);
         menuHeight = (int) (backgroundImg.getHeight() * SCALE);
+        backgroundImg = SpriteCache.GetScaled(backgroundImg, menuWidth, menuHeight);
         menuX = GAME_WIDTH / 2 - menuWidth / 2;
         menuY = (int) (25 * SCALE);
     }
@@ -79,8 +81,8 @@ public class Menu extends State implements Statemethods {
 
     @Override
     public void draw(Graphics g) {
-        g.drawImage(backgroundImgPink, 0, 0, GAME_WIDTH, GAME_HEIGHT, null);
-        g.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
+        g.drawImage(backgroundImgPink, 0, 0, null);
+        g.drawImage(backgroundImg, menuX, menuY, null);
 
         for (MenuButton btn : buttons)
             btn.draw(g);
@@ -109,7 +111,7 @@ public class Menu extends State implements Statemethods {
                     btn.applyGamestate();
 
                 if (btn.getState() == Gamestate.PLAYING)
-                    game.getAudioPlayer().setLevelSong(game.getPlaying().getLevelManager().getLevelIndex());
+                    game.whenPlayingReady(playing -> game.getAudioPlayer().setLevelSong(playing.getLevelManager().getLevelIndex()));
                 break;
             }
         }
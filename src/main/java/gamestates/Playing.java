@@ -6,11 +6,14 @@ import gamesaves.GameSaves;
 import levels.LevelManager;
 import mainWindow.Game;
 import objects.ObjectManager;
+import snapshots.SnapshotBuffer;
+import snapshots.WorldSnapshot;
 import ui.GameCompletedOverlay;
 import ui.GameOverOverlay;
 import ui.LevelCompletedOverlay;
 import ui.PauseOverlay;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
@@ -21,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Random;
 
 import effects.DialogueEffect;
+import effects.DialogueEffectPool;
 
 import static utils.Constants.*;
 import static utils.Constants.Dialogue.*;
@@ -36,17 +40,18 @@ public class Playing extends State implements Statemethods {
     private GameCompletedOverlay gameCompletedOverlay;
     private LevelCompletedOverlay levelCompletedOverlay;
     private GameSaves gameSaves;
+    private SnapshotBuffer snapshots = new SnapshotBuffer();
 
     private boolean paused = false;
 
-    private int xLevelOffset;
+    private int xLevelOffset, prevXLevelOffset;
     private int leftBorder = (int) (0.2 * GameConstants.GAME_WIDTH);
     private int rightBorder = (int) (0.8 * GameConstants.GAME_WIDTH);
     private int maxLevelOffsetX;
 
     private BufferedImage backgroundImg, bigCloud, smallCloud;
     private BufferedImage[] questionImgs, exclamationImgs;
-    private ArrayList<DialogueEffect> dialogEffects = new ArrayList<>();
+    private DialogueEffectPool dialogEffects = new DialogueEffectPool(MAX_DIALOGUE_EFFECTS);
 
     private int[] smallCloudsPos;
     private Random random = new Random();
@@ -64,9 +69,9 @@ public class Playing extends State implements Statemethods {
         super(game);
         initClasses();
 
-        backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.Images.PLAYING_BACKGROUND_IMAGE);
-        bigCloud = LoadSave.GetSpriteAtlas(LoadSave.Images.BIG_CLOUDS);
-        smallCloud = LoadSave.GetSpriteAtlas(LoadSave.Images.SMALL_CLOUDS);
+        backgroundImg = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.Images.PLAYING_BACKGROUND_IMAGE), GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT);
+        bigCloud = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.Images.BIG_CLOUDS), BIG_CLOUD_WIDTH, BIG_CLOUD_HEIGHT);
+        smallCloud = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.Images.SMALL_CLOUDS), SMALL_CLOUD_WIDTH, SMALL_CLOUD_HEIGHT);
         smallCloudsPos = new int[8];
 
         for (int i = 0; i < smallCloudsPos.length; i++)
@@ -82,16 +87,6 @@ public class Playing extends State implements Statemethods {
      */
     private void loadDialogue() {
         loadDialogueImages();
-
-        int maxDialogEffects = 10;
-
-        for (int i = 0; i < maxDialogEffects; i++)
-            dialogEffects.add(new DialogueEffect(0, 0, EXCLAMATION));
-        for (int i = 0; i < maxDialogEffects; i++)
-            dialogEffects.add(new DialogueEffect(0, 0, QUESTION));
-
-        for (DialogueEffect de : dialogEffects)
-            de.deactivate();
     }
 
     /**
@@ -110,6 +105,9 @@ public class Playing extends State implements Statemethods {
         exclamationImgs = new BufferedImage[5];
         for (int i = 0; i < exclamationImgs.length; i++)
             exclamationImgs[i] = tempE.getSubimage(i * dialogueWidth, 0, dialogueWidth, dialogueHeight);
+
+        questionImgs = SpriteCache.GetScaled(questionImgs, DIALOGUE_WIDTH, DIALOGUE_HEIGHT, false);
+        exclamationImgs = SpriteCache.GetScaled(exclamationImgs, DIALOGUE_WIDTH, DIALOGUE_HEIGHT, false);
     }
 
     /**
@@ -166,6 +164,14 @@ public class Playing extends State implements Statemethods {
         this.maxLevelOffsetX = maxLevelOffset;
     }
 
+    /**
+     * Returns the current horizontal scroll of the level.
+     * @return the x-level offset, in pixels
+     */
+    public int getXLevelOffset() {
+        return xLevelOffset;
+    }
+
     /**
      * Unpauses the game, allowing it to continue.
      */
@@ -194,45 +200,45 @@ public class Playing extends State implements Statemethods {
     /**
      * Draws the clouds in the background of the game.
      * @param g the {@link Graphics} context to draw on
+     * @param xLevelOffset the x offset for the level, used for the parallax of the clouds
      */
-    private void drawClouds(Graphics g) {
+    private void drawClouds(Graphics g, int xLevelOffset) {
         for (int i = 0; i < 3; i++)
-            g.drawImage(bigCloud, i * BIG_CLOUD_WIDTH - (int) (xLevelOffset * 0.3), (int) (204 * GameConstants.SCALE), BIG_CLOUD_WIDTH, BIG_CLOUD_HEIGHT, null);
+            g.drawImage(bigCloud, i * BIG_CLOUD_WIDTH - (int) (xLevelOffset * 0.3), (int) (204 * GameConstants.SCALE), null);
 
         for (int i = 0; i < smallCloudsPos.length; i++)
-            g.drawImage(smallCloud, SMALL_CLOUD_WIDTH * 4 * i - (int) (xLevelOffset * 0.7), smallCloudsPos[i], SMALL_CLOUD_WIDTH, SMALL_CLOUD_HEIGHT, null);
+            g.drawImage(smallCloud, SMALL_CLOUD_WIDTH * 4 * i - (int) (xLevelOffset * 0.7), smallCloudsPos[i], null);
     }
 
     /**
      * Updates the dialogue effects in the game.
      */
     private void updateDialogue() {
-        for (DialogueEffect de : dialogEffects)
-            if (de.isActive())
-                de.update();
+        dialogEffects.update();
     }
 
     /**
-     * Draws the dialogue effects on the screen.
+     * Draws the dialogue effects of a snapshot on the screen.
      * @param g the {@link Graphics} context to draw on
      * @param xLevelOffset the x offset for the level, used to adjust the position of the dialogue effects
+     * @param dialogue the {@link WorldSnapshot.SpriteLayer} holding the active dialogue effects
      */
-    private void drawDialogue(Graphics g, int xLevelOffset) {
-        for (DialogueEffect de : dialogEffects)
-            if (de.isActive()) {
-                BufferedImage img = de.getType() == QUESTION ? questionImgs[de.getAnimationIndex()] : exclamationImgs[de.getAnimationIndex()];
-                g.drawImage(img, de.getX() - xLevelOffset, de.getY(), DIALOGUE_WIDTH, DIALOGUE_HEIGHT, null);
-            }
+    private void drawDialogue(Graphics g, int xLevelOffset, WorldSnapshot.SpriteLayer dialogue) {
+        for (int i = 0; i < dialogue.size(); i++) {
+            int animationIndex = dialogue.getAnimationIndex(i);
+            BufferedImage img = dialogue.getType(i) == QUESTION ? questionImgs[animationIndex] : exclamationImgs[animationIndex];
+            g.drawImage(img, (int) dialogue.getX(i) - xLevelOffset, (int) dialogue.getY(i), null);
+        }
     }
 
+    /**
+     * Shows a dialogue effect above a position, reusing a pooled effect.
+     * @param x the x-coordinate of the effect
+     * @param y the y-coordinate of the top of the entity showing the effect
+     * @param type the type of the effect ({@link utils.Constants.Dialogue#QUESTION} or {@link utils.Constants.Dialogue#EXCLAMATION})
+     */
     public void addDialogue(int x, int y, int type) {
-        dialogEffects.add(new DialogueEffect(x, y - (int) (GameConstants.SCALE * 15), type));
-        for (DialogueEffect de : dialogEffects)
-            if (!de.isActive())
-                if (de.getType() == type) {
-                    de.reset(x, y - (int) (GameConstants.SCALE * 15));
-                    return;
-                }
+        dialogEffects.acquire(x, y - (int) (GameConstants.SCALE * 15), type);
     }
 
     /**
@@ -290,8 +296,19 @@ public class Playing extends State implements Statemethods {
         objectManager.checkSpikesTouchedPlayer(player);
     }
 
+    /**
+     * Saves the camera and entity positions of the previous update, so that drawing can be interpolated until the next one.
+     */
+    private void savePreviousPositions() {
+        prevXLevelOffset = xLevelOffset;
+        player.savePreviousPosition();
+        enemyManager.savePreviousPositions();
+    }
+
     @Override
     public void update() {
+        savePreviousPositions();
+
         if (paused)
             pauseOverlay.update();
         else if (levelCompleted)
@@ -310,30 +327,73 @@ public class Playing extends State implements Statemethods {
             enemyManager.update(levelManager.getCurrentLevel().getLevelData());
             checkCloseToBorder();
         }
+
+        publishSnapshot();
+    }
+
+    /**
+     * Copies everything the renderer needs from this update into a snapshot, and hands it over to the render thread.
+     * </p>
+     * The render thread only ever draws published snapshots, so it never reads an entity or an object while this thread is changing it.
+     */
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshots.getBackSnapshot();
+        snapshot.clear();
+        snapshot.setLevel(levelManager.getCurrentLevel(), levelManager.getWaterAnimationIndex());
+        snapshot.setLevelOffset(prevXLevelOffset, xLevelOffset);
+        snapshot.setOverlays(paused, gameOver, levelCompleted, gameCompleted);
+
+        player.writeSnapshot(snapshot);
+        enemyManager.writeSnapshot(snapshot.getEnemies());
+        objectManager.writeSnapshot(snapshot);
+
+        for (int i = 0; i < dialogEffects.size(); i++) {
+            DialogueEffect de = dialogEffects.get(i);
+            if (de.isActive())
+                snapshot.getDialogue().add(de.getX(), de.getY(), de.getType(), de.getAnimationIndex());
+        }
+
+        snapshots.publish();
     }
 
     @Override
     public void draw(Graphics g) {
-        g.drawImage(backgroundImg, 0, 0, GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT, null);
+        draw(g, 1f);
+    }
+
+    /**
+     * Draws the latest published snapshot of the game, interpolating the camera and the moving entities between the previous and the current update.
+     * @param g the {@link Graphics} context to draw on
+     * @param alpha how far the renderer is between the previous update ({@code 0}) and the current one ({@code 1})
+     */
+    public void draw(Graphics g, float alpha) {
+        WorldSnapshot snapshot = snapshots.getLatest();
+        int xLevelOffset = snapshot.getXLevelOffset(alpha);
+
+        g.drawImage(backgroundImg, 0, 0, null);
         
-        drawClouds(g);
+        drawClouds(g, xLevelOffset);
 
-        levelManager.draw(g, xLevelOffset);
-        objectManager.draw(g, xLevelOffset);
-        enemyManager.draw(g, xLevelOffset);
-        player.render(g, xLevelOffset);
-        objectManager.drawBackgroundTrees(g, xLevelOffset);
-        drawDialogue(g, xLevelOffset);
+        // Nothing was published yet, the first update hasn't run
+        if (snapshot.getLevel() == null)
+            return;
+
+        levelManager.draw(g, xLevelOffset, snapshot.getLevel(), snapshot.getWaterAnimationIndex());
+        objectManager.draw(g, xLevelOffset, snapshot);
+        enemyManager.draw(g, xLevelOffset, alpha, snapshot.getEnemies());
+        player.render(g, xLevelOffset, alpha, snapshot);
+        objectManager.drawBackgroundTrees(g, xLevelOffset, snapshot.getTrees());
+        drawDialogue(g, xLevelOffset, snapshot.getDialogue());
 
-        if (paused) {
+        if (snapshot.isPaused()) {
             g.setColor(new Color(0, 0, 0, 150));
             g.fillRect(0, 0, GameConstants.GAME_WIDTH, GameConstants.GAME_HEIGHT);
             pauseOverlay.draw(g);
-        } else if (gameOver)
+        } else if (snapshot.isGameOver())
             gameOverOverlay.draw(g);
-        else if (levelCompleted)
+        else if (snapshot.isLevelCompleted())
             levelCompletedOverlay.draw(g);
-        else if (gameCompleted)
+        else if (snapshot.isGameCompleted())
             gameCompletedOverlay.draw(g);
     }
 
@@ -30,7 +30,7 @@ public class State {
     public void setGamestate(Gamestate state) {
         switch (state) {
             case MENU -> game.getAudioPlayer().playSong(AudioPlayer.MENU_1);
-            case PLAYING -> game.getAudioPlayer().setLevelSong(game.getPlaying().getLevelManager().getLevelIndex());
+            case PLAYING -> game.whenPlayingReady(playing -> game.getAudioPlayer().setLevelSong(playing.getLevelManager().getLevelIndex()));
         }
 
         Gamestate.state = state;
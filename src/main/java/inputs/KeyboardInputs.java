@@ -21,7 +21,10 @@ public class KeyboardInputs implements KeyListener {
     public void keyPressed(KeyEvent e) {
         switch (Gamestate.state) {
             case MENU -> gamePanel.getGame().getMenu().keyPressed(e);
-            case PLAYING -> gamePanel.getGame().getPlaying().keyPressed(e);
+            case PLAYING -> {
+                if (gamePanel.getGame().isPlayingReady())
+                    gamePanel.getGame().getPlaying().keyPressed(e);
+            }
             case OPTIONS -> gamePanel.getGame().getGameOptions().keyPressed(e);
         }
     }
@@ -30,7 +33,10 @@ public class KeyboardInputs implements KeyListener {
     public void keyReleased(KeyEvent e) {
         switch (Gamestate.state) {
             case MENU -> gamePanel.getGame().getMenu().keyReleased(e);
-            case PLAYING -> gamePanel.getGame().getPlaying().keyReleased(e);
+            case PLAYING -> {
+                if (gamePanel.getGame().isPlayingReady())
+                    gamePanel.getGame().getPlaying().keyReleased(e);
+            }
             case CREDITS -> gamePanel.getGame().getCredits().keyReleased(e);
         }
     }
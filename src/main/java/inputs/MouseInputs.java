@@ -21,7 +21,10 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     @Override
     public void mouseClicked(MouseEvent e) {
         switch (Gamestate.state) {
-            case PLAYING -> gamePanel.getGame().getPlaying().mouseClicked(e);
+            case PLAYING -> {
+                if (gamePanel.getGame().isPlayingReady())
+                    gamePanel.getGame().getPlaying().mouseClicked(e);
+            }
             case OPTIONS -> gamePanel.getGame().getGameOptions().mouseClicked(e);
         }
     }
@@ -30,7 +33,10 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     public void mouseMoved(MouseEvent e) {
         switch (Gamestate.state) {
             case MENU -> gamePanel.getGame().getMenu().mouseMoved(e);
-            case PLAYING -> gamePanel.getGame().getPlaying().mouseMoved(e);
+            case PLAYING -> {
+                if (gamePanel.getGame().isPlayingReady())
+                    gamePanel.getGame().getPlaying().mouseMoved(e);
+            }
             case OPTIONS -> gamePanel.getGame().getGameOptions().mouseMoved(e);
         }
     }
@@ -39,7 +45,10 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     public void mousePressed(MouseEvent e) {
         switch (Gamestate.state) {
             case MENU -> gamePanel.getGame().getMenu().mousePressed(e);
-            case PLAYING -> gamePanel.getGame().getPlaying().mousePressed(e);
+            case PLAYING -> {
+                if (gamePanel.getGame().isPlayingReady())
+                    gamePanel.getGame().getPlaying().mousePressed(e);
+            }
             case OPTIONS -> gamePanel.getGame().getGameOptions().mousePressed(e);
         }
     }
@@ -48,7 +57,10 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     public void mouseReleased(MouseEvent e) {
         switch (Gamestate.state) {
             case MENU -> gamePanel.getGame().getMenu().mouseReleased(e);
-            case PLAYING -> gamePanel.getGame().getPlaying().mouseReleased(e);
+            case PLAYING -> {
+                if (gamePanel.getGame().isPlayingReady())
+                    gamePanel.getGame().getPlaying().mouseReleased(e);
+            }
             case OPTIONS -> gamePanel.getGame().getGameOptions().mouseReleased(e);
         }
     }
@@ -56,7 +68,10 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     @Override
     public void mouseDragged(MouseEvent e) {
         switch (Gamestate.state) {
-            case PLAYING -> gamePanel.getGame().getPlaying().mouseDragged(e);
+            case PLAYING -> {
+                if (gamePanel.getGame().isPlayingReady())
+                    gamePanel.getGame().getPlaying().mouseDragged(e);
+            }
             case OPTIONS -> gamePanel.getGame().getGameOptions().mouseDragged(e);
         }
     }
@@ -1,41 +1,54 @@
 package levels;
 
 import entities.Crabby;
-import entities.Enemy;
+import entities.EnemyStore;
 import entities.Pinkstar;
 import entities.Shark;
-import objects.BackgroundTree;
 import objects.Cannon;
+import objects.DecorationLayer;
 import objects.GameContainer;
-import objects.Grass;
 import objects.Potion;
 import objects.Spike;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Random;
 
 import static utils.Constants.EnemyConstants.*;
 import static utils.Constants.ObjectConstants.*;
 import static utils.Constants.PlayerConstants.PLAYER_SPAWN_ID;
+import static utils.Constants.Tree.NUM_ANIMATIONS;
+import static utils.Constants.Tree.TREE_ANIMATION_SPEED;
 import static utils.Constants.Tree.TREE_ONE;
 import static utils.Constants.Tree.TREE_THREE;
 import static utils.Constants.Tree.TREE_TWO;
 import static utils.Constants.GameConstants.*;
 
 public class Level {
-    private int[][] lvlData;
-    private BufferedImage image;
+    /**
+     * Set to {@code true} to print how long parsing each level image takes.
+     */
+    private static final boolean REPORT_PARSE_TIME = false;
+    /**
+     * The seed of the random numbers of every decoration layer, so a level always looks the same.
+     */
+    private static final long DECORATION_SEED = 0x5EED_DEC0L;
+
+    private TileGrid lvlData;
 
-    private ArrayList<Crabby> crabs = new ArrayList<>();
-    private ArrayList<Pinkstar> pinkstars = new ArrayList<>();
-    private ArrayList<Shark> sharks = new ArrayList<>();
+    private EnemyStore enemies = new EnemyStore();
     private ArrayList<Potion> potions = new ArrayList<>();
     private ArrayList<GameContainer> containers = new ArrayList<>();
     private ArrayList<Spike> spikes = new ArrayList<>();
     private ArrayList<Cannon> cannons = new ArrayList<>();
-    private ArrayList<BackgroundTree> trees = new ArrayList<>();
-    private ArrayList<Grass> grass = new ArrayList<>();
+    private final Random decorationRandom = new Random(DECORATION_SEED);
+    private DecorationLayer trees = new DecorationLayer(NUM_ANIMATIONS, TREE_ANIMATION_SPEED, decorationRandom);
+    private DecorationLayer grass = new DecorationLayer(1, 1, decorationRandom);
+
+    private StaticObjectIndex<Spike> spikeIndex;
+    private StaticObjectIndex<Cannon> cannonIndex;
 
     private int levelTilesWide;
     private int maxTilesOffset;
@@ -47,27 +60,72 @@ public class Level {
      * @param image the {@link BufferedImage} representing the level
      */
     public Level(BufferedImage image) {
-        this.image = image;
-        lvlData = new int[image.getHeight()][image.getWidth()];
-        loadLevel();
-        calculateOffsets();
+        lvlData = new TileGrid(image.getWidth(), image.getHeight());
+        loadLevel(image);
+        calculateOffsets(image.getWidth());
+        buildStaticIndexes();
+    }
+
+    /**
+     * Constructor for the Level class, reading a level in the binary {@link LevelFormat}.
+     * </p>
+     * The buffer is usually the memory-mapped level file: the tiles and the entity and object tables are read straight from it,
+     * without decoding any image. The tiles still go through one pass, since it builds the tile properties and places the grass,
+     * and that pass also copies them to the {@link TileGrid}, which keeps reading a tile a plain array access.
+     * The buffer is only read during the constructor and can be dropped right after.
+     * @param buffer the level data, positioned on its header
+     */
+    public Level(ByteBuffer buffer) {
+        long start = System.nanoTime();
+        LevelFormat.Header header = LevelFormat.ReadHeader(buffer);
+        int width = header.width();
+        int height = header.height();
+
+        lvlData = new TileGrid(width, height);
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++)
+                loadLevelData(buffer.get() & 0xFF, x, y);
+
+        for (int i = 0; i < header.entityCount(); i++)
+            loadEntities(buffer.get() & 0xFF, buffer.getInt(), buffer.getInt());
+
+        for (int i = 0; i < header.objectCount(); i++)
+            loadObjects(buffer.get() & 0xFF, buffer.getInt(), buffer.getInt());
+
+        calculateOffsets(width);
+        buildStaticIndexes();
+
+        if (REPORT_PARSE_TIME)
+            System.out.printf("Level %dx%d read in %.2f ms%n", width, height, (System.nanoTime() - start) / 1_000_000.0);
     }
 
     /**
      * Loads the level data from the BufferedImage.
+     * </p>
+     * The whole image is read with a single bulk {@code getRGB} call, and the channels are extracted with shifts,
+     * so no object is created per pixel.
+     * @param image the {@link BufferedImage} representing the level
      */
-    private void loadLevel() {
-        for (int y = 0; y < image.getHeight(); y++)
-            for (int x = 0; x < image.getWidth(); x++) {
-                Color c = new Color(image.getRGB(x, y));
-                int red = c.getRed();
-                int green = c.getGreen();
-                int blue = c.getBlue();
+    private void loadLevel(BufferedImage image) {
+        long start = System.nanoTime();
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++) {
+                int rgb = pixels[y * width + x];
+                int red = (rgb >> 16) & 0xFF;
+                int green = (rgb >> 8) & 0xFF;
+                int blue = rgb & 0xFF;
 
                 loadLevelData(red, x, y);
                 loadEntities(green, x, y);
                 loadObjects(blue, x, y);
             }
+
+        if (REPORT_PARSE_TIME)
+            System.out.printf("Level %dx%d parsed in %.2f ms%n", width, height, (System.nanoTime() - start) / 1_000_000.0);
     }
 
     /**
@@ -78,13 +136,12 @@ public class Level {
      */
     private void loadLevelData(int red, int x, int y) {
         if (red >= 50)
-            lvlData[y][x] = 0;
+            lvlData.set(x, y, 0);
         else
-            lvlData[y][x] = red;
+            lvlData.set(x, y, red);
 
-        switch (red) {
-            case 0, 1, 2, 3, 30, 31, 33, 34, 35, 36, 37, 38, 39 -> grass.add(new Grass((int) (x * TILES_SIZE), (int) (y * TILES_SIZE), getRandomGrassType(x)));
-        }
+        if (TileProperties.HasProperty(red, TileProperties.GRASS))
+            grass.add(x * TILES_SIZE, y * TILES_SIZE, getRandomGrassType(x));
     }
 
     /**
@@ -104,9 +161,9 @@ public class Level {
      */
     private void loadEntities(int green, int x, int y) {
         switch (green) {
-            case CRABBY -> crabs.add(new Crabby(x * TILES_SIZE, y * TILES_SIZE));
-            case PINKSTAR -> pinkstars.add(new Pinkstar(x * TILES_SIZE, y * TILES_SIZE));
-            case SHARK -> sharks.add(new Shark(x * TILES_SIZE, y * TILES_SIZE));
+            case CRABBY -> new Crabby().spawn(enemies, x * TILES_SIZE, y * TILES_SIZE);
+            case PINKSTAR -> new Pinkstar().spawn(enemies, x * TILES_SIZE, y * TILES_SIZE);
+            case SHARK -> new Shark().spawn(enemies, x * TILES_SIZE, y * TILES_SIZE);
             case PLAYER_SPAWN_ID -> playerSpawn = new Point(x * TILES_SIZE, y * TILES_SIZE);
         }
     }
@@ -123,19 +180,31 @@ public class Level {
             case BARREL, BOX -> containers.add(new GameContainer(x * TILES_SIZE, y * TILES_SIZE, blue));
             case SPIKE -> spikes.add(new Spike(x * TILES_SIZE, y * TILES_SIZE, SPIKE));
             case CANNON_LEFT, CANNON_RIGHT -> cannons.add(new Cannon(x * TILES_SIZE, y * TILES_SIZE, blue));
-            case TREE_ONE, TREE_TWO, TREE_THREE -> trees.add(new BackgroundTree(x * TILES_SIZE, y * TILES_SIZE, blue));
+            case TREE_ONE, TREE_TWO, TREE_THREE -> trees.add(x * TILES_SIZE, y * TILES_SIZE, blue);
         }
     }
 
     /**
-     * Calculates the offsets for the level based on the image dimensions.
+     * Calculates the offsets for the level based on its width.
+     * @param width the width of the level in tiles
      */
-    private void calculateOffsets() {
-        levelTilesWide = image.getWidth();
+    private void calculateOffsets(int width) {
+        levelTilesWide = width;
         maxTilesOffset = levelTilesWide - TILES_IN_WIDTH;
         maxLevelOffsetX = TILES_SIZE * maxTilesOffset;
     }
 
+    /**
+     * Sorts the objects that never move by x, so that only the visible ones are drawn and animated, and groups the enemies by type.
+     */
+    private void buildStaticIndexes() {
+        spikeIndex = new StaticObjectIndex<>(spikes, s -> (int) s.getHitbox().x);
+        cannonIndex = new StaticObjectIndex<>(cannons, c -> (int) c.getHitbox().x);
+        trees.sort();
+        grass.sort();
+        enemies.sortByType();
+    }
+
     /**
      * Returns the sprite index for a given tile position.
      * @param x the x-coordinate of the tile
@@ -143,14 +212,14 @@ public class Level {
      * @return the sprite index for the tile at (x, y)
      */
     public int getSpriteIndex(int x, int y) {
-        return lvlData[y][x];
+        return lvlData.get(x, y);
     }
 
     /**
-     * Returns the level data as a 2D array.
-     * @return the level data as a 2D array of integers
+     * Returns the tiles of the level.
+     * @return the level data as a {@link TileGrid}
      */
-    public int[][] getLevelData() {
+    public TileGrid getLevelData() {
         return lvlData;
     }
 
@@ -162,27 +231,19 @@ public class Level {
     }
 
     /**
-     * Returns all crabs in the level.
-     * @return an ArrayList of {@link Crabby} objects
+     * Returns all enemies in the level, grouped by type.
+     * @return the {@link EnemyStore} of the level
      */
-    public ArrayList<Crabby> getCrabs() {
-        return crabs;
+    public EnemyStore getEnemies() {
+        return enemies;
     }
 
     /**
-     * Returns all pink stars in the level.
-     * @return an ArrayList of {@link Pinkstar} objects
-     */
-    public ArrayList<Pinkstar> getPinkstars() {
-		return pinkstars;
-	}
-
-    /**
-     * Returns all sharks in the level.
-     * @return an ArrayList of {@link Shark} objects
+     * Replaces the enemies of the level, like with the ones of a saved game.
+     * @param enemies the {@link EnemyStore} of the new enemies, grouped by type
      */
-    public ArrayList<Shark> getSharks() {
-        return sharks;
+    public void setEnemies(EnemyStore enemies) {
+        this.enemies = enemies;
     }
 
     /**
@@ -218,57 +279,42 @@ public class Level {
     }
 
     /**
-     * Returns all background trees in the level.
-     * @return an ArrayList of {@link BackgroundTree} objects
+     * Returns the background trees of the level, sorted by x.
+     * @return the {@link DecorationLayer} of the trees
      */
-    public ArrayList<BackgroundTree> getTrees() {
+    public DecorationLayer getTrees() {
         return trees;
     }
 
     /**
-     * Returns all grass objects in the level.
-     * @return an ArrayList of {@link Grass} objects
+     * Returns the grass of the level, sorted by x.
+     * @return the {@link DecorationLayer} of the grass
      */
-    public ArrayList<Grass> getGrass() {
+    public DecorationLayer getGrass() {
         return grass;
     }
 
     /**
-     * Returns the player spawn point in the level.
-     * @return a {@link Point} representing the player's spawn location
+     * Returns the spikes of the level sorted by x.
+     * @return a {@link StaticObjectIndex} of {@link Spike} objects
      */
-    public Point getPlayerSpawn() {
-        return playerSpawn;
+    public StaticObjectIndex<Spike> getSpikeIndex() {
+        return spikeIndex;
     }
 
     /**
-     * Returns all enemies in the level.
-     * @return an ArrayList of {@link Enemy} objects
+     * Returns the cannons of the level sorted by x.
+     * @return a {@link StaticObjectIndex} of {@link Cannon} objects
      */
-    public ArrayList<Enemy> getAllEnemies() {
-        ArrayList<Enemy> allEnemies = new ArrayList<>();
-
-        for (Crabby c : crabs)
-            allEnemies.add(c);
-            
-        for (Pinkstar p : pinkstars)
-            allEnemies.add(p);
-
-        for (Shark s : sharks)
-            allEnemies.add(s);
-
-        return allEnemies;
+    public StaticObjectIndex<Cannon> getCannonIndex() {
+        return cannonIndex;
     }
 
-    public void setCrabs(ArrayList<Crabby> crabs) {
-        this.crabs = crabs;
-    }
-
-    public void setPinkstars(ArrayList<Pinkstar> pinkstars) {
-        this.pinkstars = pinkstars;
-    }
-
-    public void setSharks(ArrayList<Shark> sharks) {
-        this.sharks = sharks;
+    /**
+     * Returns the player spawn point in the level.
+     * @return a {@link Point} representing the player's spawn location
+     */
+    public Point getPlayerSpawn() {
+        return playerSpawn;
     }
 }
\ No newline at end of file
@@ -0,0 +1,242 @@
+package levels;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+
+import static utils.Constants.GameConstants.*;
+
+public class LevelChunkCache {
+    /**
+     * The width of a chunk, in tiles. A chunk is as wide as the screen, so at most two chunks are visible at once.
+     */
+    public static final int CHUNK_TILES_WIDE = TILES_IN_WIDTH;
+
+    private static final int WATER_TOP = TileProperties.WATER_TOP_TILE;
+    private static final int WATER_BOTTOM = TileProperties.WATER_BOTTOM_TILE;
+
+    private final BufferedImage[] levelSprite, waterSprite;
+    private final int waterBottomIndex;
+
+    private Level level;
+    private Chunk[] chunks;
+    // The chunks allowed to keep an image: the visible ones plus one on each side
+    private int residentFirst, residentLast = -1;
+    private boolean accelerationUnavailable;
+
+    private static class Chunk {
+        private final int firstColumn, columns;
+        private final int[] waterTiles;
+        private Image image;
+        private boolean dirty = true;
+
+        /**
+         * Constructor for the Chunk class.
+         * @param firstColumn the first column of the level covered by the chunk
+         * @param columns the number of columns covered by the chunk
+         * @param waterTiles the packed {@code column << 16 | row} positions of the animated water tiles in the chunk
+         */
+        private Chunk(int firstColumn, int columns, int[] waterTiles) {
+            this.firstColumn = firstColumn;
+            this.columns = columns;
+            this.waterTiles = waterTiles;
+        }
+    }
+
+    /**
+     * Constructor for the LevelChunkCache class.
+     * @param levelSprite the tiles of the level atlas, already scaled to {@code TILES_SIZE}
+     * @param waterSprite the water frames, already scaled to {@code TILES_SIZE}, the last one being the water bottom
+     */
+    public LevelChunkCache(BufferedImage[] levelSprite, BufferedImage[] waterSprite) {
+        this.levelSprite = levelSprite;
+        this.waterSprite = waterSprite;
+        this.waterBottomIndex = waterSprite.length - 1;
+    }
+
+    /**
+     * Draws the visible part of a level, baking its static tiles into chunk images the first time they are needed.
+     * </p>
+     * Each visible chunk is a single unscaled blit, and only the animated water is drawn tile by tile over it.
+     * Only the visible chunks and one on each side keep their image, so the memory used doesn't grow with the distance travelled.
+     * The chunks of the previous level are dropped as soon as another level is drawn.
+     * @param g the {@link Graphics} object to draw on
+     * @param xLvlOffset the x-level offset for drawing the level
+     * @param level the {@link Level} to draw
+     * @param waterAnimationIndex the animation index of the water to draw
+     */
+    public void draw(Graphics g, int xLvlOffset, Level level, int waterAnimationIndex) {
+        if (level != this.level)
+            buildChunks(level);
+
+        GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        int chunkWidth = CHUNK_TILES_WIDE * TILES_SIZE;
+        int firstChunk = Math.max(0, xLvlOffset / chunkWidth);
+        int lastChunk = Math.min(chunks.length - 1, (xLvlOffset + GAME_WIDTH) / chunkWidth);
+        updateResidentChunks(Math.max(0, firstChunk - 1), Math.min(chunks.length - 1, lastChunk + 1));
+
+        for (int c = firstChunk; c <= lastChunk; c++) {
+            Chunk chunk = chunks[c];
+            int x = chunk.firstColumn * TILES_SIZE - xLvlOffset;
+
+            g.drawImage(getChunkImage(chunk, gc), x, 0, null);
+
+            for (int packed : chunk.waterTiles) {
+                int column = packed >>> 16;
+                int row = packed & 0xFFFF;
+                g.drawImage(waterSprite[waterAnimationIndex], TILES_SIZE * column - xLvlOffset, TILES_SIZE * row, null);
+            }
+
+            if (chunk.image instanceof VolatileImage vi && vi.contentsLost())
+                chunk.dirty = true;
+        }
+    }
+
+    /**
+     * Releases the images of the chunks that left the resident range since the previous frame.
+     * @param first the first chunk allowed to keep its image
+     * @param last the last chunk allowed to keep its image
+     */
+    private void updateResidentChunks(int first, int last) {
+        for (int c = residentFirst; c <= residentLast; c++)
+            if (c < first || c > last)
+                releaseChunkImage(chunks[c]);
+
+        residentFirst = first;
+        residentLast = last;
+    }
+
+    /**
+     * Releases the image of a chunk. It is created and baked again if the chunk becomes visible again.
+     * @param chunk the {@link Chunk} to release the image of
+     */
+    private void releaseChunkImage(Chunk chunk) {
+        if (chunk.image != null)
+            chunk.image.flush();
+        chunk.image = null;
+        chunk.dirty = true;
+    }
+
+    /**
+     * Splits a level into chunks and finds their animated tiles. The images themselves are only created when a chunk becomes visible.
+     * @param level the {@link Level} to split
+     */
+    private void buildChunks(Level level) {
+        dispose();
+        this.level = level;
+
+        TileGrid tiles = level.getLevelData();
+        int levelWidth = tiles.getWidth();
+        chunks = new Chunk[(levelWidth + CHUNK_TILES_WIDE - 1) / CHUNK_TILES_WIDE];
+
+        for (int c = 0; c < chunks.length; c++) {
+            int firstColumn = c * CHUNK_TILES_WIDE;
+            int columns = Math.min(CHUNK_TILES_WIDE, levelWidth - firstColumn);
+
+            int waterCount = 0;
+            int[] waterTiles = new int[columns * TILES_IN_HEIGHT];
+            for (int j = 0; j < TILES_IN_HEIGHT; j++)
+                for (int i = firstColumn; i < firstColumn + columns; i++)
+                    if (tiles.getProperties().has(TileProperties.WATER_TOP, i, j))
+                        waterTiles[waterCount++] = i << 16 | j;
+
+            chunks[c] = new Chunk(firstColumn, columns, Arrays.copyOf(waterTiles, waterCount));
+        }
+    }
+
+    /**
+     * Returns the image of a chunk, creating or repainting it if it is missing, incompatible with the screen, or was lost.
+     * @param chunk the {@link Chunk} to get the image of
+     * @param gc the {@link GraphicsConfiguration} of the surface the chunk is drawn on
+     * @return the baked image of the chunk
+     */
+    private Image getChunkImage(Chunk chunk, GraphicsConfiguration gc) {
+        if (chunk.image == null)
+            createChunkImage(chunk, gc);
+
+        if (chunk.image instanceof VolatileImage vi) {
+            int status = vi.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                vi.flush();
+                createChunkImage(chunk, gc);
+            } else if (status == VolatileImage.IMAGE_RESTORED)
+                chunk.dirty = true;
+        }
+
+        if (chunk.dirty)
+            paintChunk(chunk);
+
+        return chunk.image;
+    }
+
+    /**
+     * Creates the image of a chunk, accelerated when the screen supports it, and a {@link BufferedImage} otherwise.
+     * Once creating an accelerated image failed, every following chunk uses a {@link BufferedImage} right away.
+     * @param chunk the {@link Chunk} to create the image of
+     * @param gc the {@link GraphicsConfiguration} of the surface the chunk is drawn on
+     */
+    private void createChunkImage(Chunk chunk, GraphicsConfiguration gc) {
+        int width = chunk.columns * TILES_SIZE;
+        int height = TILES_IN_HEIGHT * TILES_SIZE;
+
+        chunk.image = null;
+        if (gc != null && !accelerationUnavailable)
+            try {
+                chunk.image = gc.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+            } catch (Exception e) {
+                accelerationUnavailable = true;
+                System.out.println("Accelerated level chunks unavailable, falling back to software images: " + e.getMessage());
+            }
+
+        if (chunk.image == null)
+            chunk.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        chunk.dirty = true;
+    }
+
+    /**
+     * Bakes every static tile of a chunk into its image. Animated water tops are left out and drawn over the chunk.
+     * @param chunk the {@link Chunk} to paint
+     */
+    private void paintChunk(Chunk chunk) {
+        Graphics2D g = (Graphics2D) chunk.image.getGraphics();
+
+        // Clear to fully transparent, the sky tiles let the background show through
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, chunk.image.getWidth(null), chunk.image.getHeight(null));
+        g.setComposite(AlphaComposite.SrcOver);
+
+        TileGrid tiles = level.getLevelData();
+        for (int j = 0; j < TILES_IN_HEIGHT; j++)
+            for (int i = 0; i < chunk.columns; i++) {
+                int index = tiles.get(chunk.firstColumn + i, j);
+                int x = TILES_SIZE * i;
+                int y = TILES_SIZE * j;
+                if (index == WATER_BOTTOM)
+                    g.drawImage(waterSprite[waterBottomIndex], x, y, null);
+                else if (index != WATER_TOP)
+                    g.drawImage(levelSprite[index], x, y, null);
+            }
+
+        g.dispose();
+        chunk.dirty = false;
+    }
+
+    /**
+     * Releases the images of every chunk.
+     */
+    public void dispose() {
+        if (chunks != null)
+            for (Chunk chunk : chunks)
+                releaseChunkImage(chunk);
+        chunks = null;
+        level = null;
+        residentFirst = 0;
+        residentLast = -1;
+    }
+}
@@ -0,0 +1,272 @@
+package levels;
+
+import utils.LoadSave;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static utils.Constants.EnemyConstants.*;
+import static utils.Constants.ObjectConstants.*;
+import static utils.Constants.PlayerConstants.PLAYER_SPAWN_ID;
+import static utils.Constants.Tree.TREE_ONE;
+import static utils.Constants.Tree.TREE_THREE;
+import static utils.Constants.Tree.TREE_TWO;
+
+/**
+ * The binary level format.
+ * </p>
+ * A level file starts with a big-endian header: {@link #MAGIC} and {@link #VERSION} as ints, the size, the modification time and
+ * the CRC-32 of the PNG level it was converted from as longs, then the width and the height of the level in tiles, the number of
+ * entities and the number of objects as ints. It is followed by the tile grid, one unsigned byte per tile, row by row, then by the entity table and the object table,
+ * each entry being an unsigned byte type followed by the tile x and y as ints.
+ * </p>
+ * The tiles, entities and objects hold the same values as the red, green and blue channels of the PNG levels.
+ */
+public class LevelFormat {
+    public static final int MAGIC = 0x504C564C; // "PLVL"
+    public static final int VERSION = 3;
+    public static final int HEADER_SIZE = 6 * Integer.BYTES + 3 * Long.BYTES;
+    public static final int ENTRY_SIZE = 1 + 2 * Integer.BYTES;
+
+    /**
+     * The PNG level a level file was converted from.
+     * @param size the size of the image file, in bytes
+     * @param modified the modification time of the image file, {@code 0} if unknown
+     * @param crc the CRC-32 of the image file, {@code 0} if it wasn't computed
+     */
+    public record Source(long size, long modified, long crc) {}
+
+    /**
+     * The header of a level file.
+     * @param source the {@link Source} the file was converted from
+     * @param width the width of the level in tiles
+     * @param height the height of the level in tiles
+     * @param entityCount the number of entries in the entity table
+     * @param objectCount the number of entries in the object table
+     */
+    public record Header(Source source, int width, int height, int entityCount, int objectCount) {}
+
+    /**
+     * Maps a level file in memory. The returned buffer reads the file straight from the page cache, without copying it first.
+     * @param file the level file
+     * @return a read-only {@link MappedByteBuffer} over the whole file
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public static MappedByteBuffer Map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Reads and checks the header of a level buffer, leaving the buffer positioned on the tile grid.
+     * @param buffer the level buffer
+     * @return the {@link Header}
+     */
+    public static Header ReadHeader(ByteBuffer buffer) {
+        Header header = ReadHeaderFields(buffer);
+        CheckSize(header, buffer.remaining());
+        return header;
+    }
+
+    /**
+     * Reads and checks the header of a level file, without reading or mapping the rest of the file.
+     * @param file the level file
+     * @return the {@link Header}
+     * @throws IOException if the file can't be read
+     */
+    public static Header ReadHeader(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            while (buffer.hasRemaining())
+                if (channel.read(buffer) < 0)
+                    break;
+            buffer.flip();
+
+            Header header = ReadHeaderFields(buffer);
+            CheckSize(header, channel.size() - HEADER_SIZE);
+            return header;
+        }
+    }
+
+    /**
+     * Reads the fields of a header, checking the magic number and the version.
+     * @param buffer the level buffer, positioned on its header
+     * @return the {@link Header}
+     */
+    private static Header ReadHeaderFields(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC)
+            throw new IllegalArgumentException("Not a level file");
+
+        int version = buffer.getInt();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported level file version: " + version);
+
+        Source source = new Source(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        return new Header(source, buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+    }
+
+    /**
+     * Checks that the data following a header holds the whole tile grid and both tables.
+     * @param header the {@link Header} of the level
+     * @param available the number of bytes following the header
+     */
+    private static void CheckSize(Header header, long available) {
+        long expected = (long) header.width() * header.height() + (long) (header.entityCount() + header.objectCount()) * ENTRY_SIZE;
+        if (header.width() <= 0 || header.height() <= 0 || header.entityCount() < 0 || header.objectCount() < 0 || available < expected)
+            throw new IllegalArgumentException("Truncated level file");
+    }
+
+    /**
+     * Reads the size and the modification time of a level image, without reading its content.
+     * @param image the {@link URL} of the level image
+     * @return the {@link Source}, without its CRC
+     * @throws IOException if the image can't be opened
+     */
+    public static Source StatSource(URL image) throws IOException {
+        URLConnection connection = image.openConnection();
+        long size = connection.getContentLengthLong();
+        long modified = connection.getLastModified();
+        // Opening the connection may have opened the file, it is closed without being read
+        connection.getInputStream().close();
+        return new Source(size, modified, 0);
+    }
+
+    /**
+     * Reads the size, the modification time and the CRC-32 of a level image, to be recorded in the level file converted from it.
+     * @param image the {@link URL} of the level image
+     * @return the {@link Source}
+     * @throws IOException if the image can't be read
+     */
+    public static Source ReadSource(URL image) throws IOException {
+        Source stat = StatSource(image);
+        return new Source(stat.size(), stat.modified(), ComputeCrc(image));
+    }
+
+    /**
+     * Computes the CRC-32 of a level image.
+     * @param image the {@link URL} of the level image
+     * @return the CRC-32 of the image file
+     * @throws IOException if the image can't be read
+     */
+    public static long ComputeCrc(URL image) throws IOException {
+        try (InputStream is = image.openStream()) {
+            CRC32 crc = new CRC32();
+            crc.update(is.readAllBytes());
+            return crc.getValue();
+        }
+    }
+
+    /**
+     * Converts a PNG level to the binary format.
+     * </p>
+     * The file is written next to the level file and then moved over it, so a level file is never seen half written,
+     * and the old file is replaced rather than truncated.
+     * @param image the level image, red being the tiles, green the entities and blue the objects
+     * @param source the {@link Source} of the level image, so that the file can be told out of date
+     * @param file the level file to write
+     * @throws IOException if the file can't be written
+     */
+    public static void Convert(BufferedImage image, Source source, File file) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        int entityCount = 0, objectCount = 0;
+        for (int rgb : pixels) {
+            if (IsEntity((rgb >> 8) & 0xFF))
+                entityCount++;
+            if (IsObject(rgb & 0xFF))
+                objectCount++;
+        }
+
+        int size = HEADER_SIZE + width * height + (entityCount + objectCount) * ENTRY_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(source.size()).putLong(source.modified()).putLong(source.crc()).putInt(width).putInt(height).putInt(entityCount).putInt(objectCount);
+
+        for (int rgb : pixels)
+            buffer.put((byte) ((rgb >> 16) & 0xFF));
+
+        for (int i = 0; i < pixels.length; i++) {
+            int green = (pixels[i] >> 8) & 0xFF;
+            if (IsEntity(green))
+                buffer.put((byte) green).putInt(i % width).putInt(i / width);
+        }
+
+        for (int i = 0; i < pixels.length; i++) {
+            int blue = pixels[i] & 0xFF;
+            if (IsObject(blue))
+                buffer.put((byte) blue).putInt(i % width).putInt(i / width);
+        }
+
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (!dir.exists())
+            dir.mkdirs();
+
+        Path temp = Files.createTempFile(dir.toPath(), file.getName(), ".tmp");
+        try {
+            Files.write(temp, buffer.array());
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns whether a green value places an entity.
+     * @param green the green value of a level pixel
+     * @return {@code true} if it is an enemy or the player spawn, {@code false} otherwise
+     */
+    private static boolean IsEntity(int green) {
+        return switch (green) {
+            case CRABBY, PINKSTAR, SHARK, PLAYER_SPAWN_ID -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Returns whether a blue value places an object.
+     * @param blue the blue value of a level pixel
+     * @return {@code true} if it is a potion, a container, a spike, a cannon or a tree, {@code false} otherwise
+     */
+    private static boolean IsObject(int blue) {
+        return switch (blue) {
+            case RED_POTION, BLUE_POTION, BARREL, BOX, SPIKE, CANNON_LEFT, CANNON_RIGHT, TREE_ONE, TREE_TWO, TREE_THREE -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Converts every PNG level shipped with the game to the binary format, in the data folder, where the game loads them from first.
+     * Levels that only exist as level files are left as they are.
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        int amount = LoadSave.GetAmountOfLevels();
+        for (int i = 0; i < amount; i++) {
+            URL image = LoadSave.GetLevelImageURL(i);
+            if (image == null)
+                continue;
+
+            File file = LoadSave.GetLevelFile(i);
+            try {
+                Convert(LoadSave.GetLevelImage(i), ReadSource(image), file);
+                System.out.println("Converted level " + (i + 1) + " to " + file.getPath() + " (" + file.length() + " bytes)");
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -2,17 +2,19 @@ package levels;
 
 import mainWindow.Game;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 
 import static utils.Constants.GameConstants.*;
 
 public class LevelManager {
     private Game game;
     private BufferedImage[] levelSprite, waterSprite;
-    private ArrayList<Level> levels;
+    private LevelChunkCache chunkCache;
+    private LevelRepository levels;
+    private Level currentLevel;
     private int levelIndex = 0, animationTick, animationIndex, waterBottomIndex;
 
     /**
@@ -23,8 +25,11 @@ public class LevelManager {
         this.game = game;
         importOutsideSprites();
         createWater();
-        levels = new ArrayList<>();
-        builtAllLevels();
+        chunkCache = new LevelChunkCache(
+                SpriteCache.GetScaled(levelSprite, TILES_SIZE, TILES_SIZE, false),
+                SpriteCache.GetScaled(waterSprite, TILES_SIZE, TILES_SIZE, false));
+        levels = new LevelRepository();
+        changeLevel(0);
     }
 
     /**
@@ -39,15 +44,6 @@ public class LevelManager {
         waterSprite[waterBottomIndex] = LoadSave.GetSpriteAtlas(LoadSave.Sprites.WATER_BOTTOM);
     }
 
-    /**
-     * Builds all levels by loading images from the resources.
-     */
-    private void builtAllLevels() {
-        BufferedImage[] allLevels = LoadSave.GetAllLevels();
-        for (BufferedImage img : allLevels)
-            levels.add(new Level(img));
-    }
-
     /**
      * Imports the outside sprites used in the game.
      */
@@ -66,23 +62,20 @@ public class LevelManager {
     }
 
     /**
-     * Draws the current level on the provided Graphics object.
+     * Draws a level on the provided Graphics object.
+     * </p>
+     * The level and the water frame are passed in, instead of being read from this manager, so that the render thread
+     * draws the state of the snapshot it received and not the one the update thread is changing.
+     * </p>
+     * The static tiles are baked into screen-wide chunks by the {@link LevelChunkCache}, so a frame only blits the one or two
+     * visible chunks and draws the animated water over them.
      * @param g the {@link Graphics} object to draw on
      * @param xLvlOffset the x-level offset for drawing the level
+     * @param level the {@link Level} to draw
+     * @param waterAnimationIndex the animation index of the water to draw
      */
-    public void draw(Graphics g, int xLvlOffset) {
-        for (int j = 0; j < TILES_IN_HEIGHT; j++)
-            for (int i = 0; i < levels.get(levelIndex).getLevelData()[0].length; i++) {
-                int index = levels.get(levelIndex).getSpriteIndex(i, j);
-                int x = TILES_SIZE * i - xLvlOffset;
-                int y = TILES_SIZE * j;
-                if (index == 48)
-                    g.drawImage(waterSprite[animationIndex], x, y, TILES_SIZE, TILES_SIZE, null);
-                else if (index == 49)
-                    g.drawImage(waterSprite[waterBottomIndex], x, y, TILES_SIZE, TILES_SIZE, null);
-                else
-                    g.drawImage(levelSprite[index], x, y, TILES_SIZE, TILES_SIZE, null);
-            }
+    public void draw(Graphics g, int xLvlOffset, Level level, int waterAnimationIndex) {
+        chunkCache.draw(g, xLvlOffset, level, waterAnimationIndex);
     }
 
     /**
@@ -106,12 +99,20 @@ public class LevelManager {
         }
     }
 
+    /**
+     * Returns the current animation index of the water.
+     * @return the water animation index
+     */
+    public int getWaterAnimationIndex() {
+        return animationIndex;
+    }
+
     /**
      * Returns the current level.
      * @return the current {@link Level} object
      */
     public Level getCurrentLevel() {
-        return levels.get(levelIndex);
+        return currentLevel;
     }
 
     /**
@@ -119,14 +120,14 @@ public class LevelManager {
      * @return the number of levels
      */
     public int getAmountOfLevels() {
-        return levels.size();
+        return levels.getAmountOfLevels();
     }
 
     /**
      * Loads the next level in the game.
      */
     public void loadNextLevel() {
-        Level newLevel = levels.get(levelIndex);
+        Level newLevel = currentLevel;
         game.getPlaying().getEnemyManager().loadEnemies(newLevel);
         game.getPlaying().getPlayer().loadLvlData(newLevel.getLevelData());
         game.getPlaying().setMaxLevelOffset(newLevel.getLevelOffsetX());
@@ -142,10 +143,24 @@ public class LevelManager {
     }
 
     /**
-     * Sets the index of the current level.
+     * Sets the index of the current level, and loads it if it wasn't prefetched.
+     * </p>
+     * Every other level is dropped, and the following one starts loading in the background,
+     * so at most two levels are in memory no matter how many levels the game has.
      * @param index the index to set for the current level
      */
     public void setLevelIndex(int index) {
+        changeLevel(index);
+    }
+
+    /**
+     * Makes a level the current one, dropping every other level and prefetching the following one.
+     * @param index the index of the new current level
+     */
+    private void changeLevel(int index) {
         this.levelIndex = index;
+        currentLevel = levels.getLevel(index);
+        levels.releaseAllExcept(index);
+        levels.prefetch(index + 1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package levels;
+
+import utils.AssetManager;
+import utils.LoadSave;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LevelRepository {
+    private final int amountOfLevels;
+    private final Map<Integer, CompletableFuture<Level>> levels = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the LevelRepository class.
+     * </p>
+     * The level files are only counted here, none of them is decoded until it is needed.
+     */
+    public LevelRepository() {
+        amountOfLevels = LoadSave.GetAmountOfLevels();
+    }
+
+    /**
+     * Returns a level, loading it on the calling thread if it wasn't loaded or prefetched yet,
+     * or waiting for the prefetch to finish if it is still running.
+     * @param index the index of the level
+     * @return the {@link Level}
+     */
+    public Level getLevel(int index) {
+        CompletableFuture<Level> future = levels.get(index);
+        if (future == null) {
+            Level level = loadLevel(index);
+            levels.putIfAbsent(index, CompletableFuture.completedFuture(level));
+            return level;
+        }
+        return future.join();
+    }
+
+    /**
+     * Starts loading a level on the asset threads, so that it is ready when the player reaches it.
+     * Does nothing if the level doesn't exist or is already loaded.
+     * @param index the index of the level
+     */
+    public void prefetch(int index) {
+        if (index < 0 || index >= amountOfLevels)
+            return;
+        levels.computeIfAbsent(index, i -> AssetManager.Submit(() -> loadLevel(i)));
+    }
+
+    /**
+     * Drops a level, so that it can be garbage collected. It is loaded again from its file if it is ever needed.
+     * @param index the index of the level
+     */
+    public void release(int index) {
+        levels.remove(index);
+    }
+
+    /**
+     * Drops every level except the given one.
+     * @param index the index of the level to keep
+     */
+    public void releaseAllExcept(int index) {
+        levels.keySet().removeIf(i -> i != index);
+    }
+
+    /**
+     * Returns the number of level files shipped with the game.
+     * @return the number of levels
+     */
+    public int getAmountOfLevels() {
+        return amountOfLevels;
+    }
+
+    /**
+     * Builds the {@link Level} of a level file.
+     * </p>
+     * The level converted to the binary {@link LevelFormat} is memory-mapped and read when it exists and was converted
+     * from the current level image, so that editing the image is never hidden by an old file. Only the header of the file
+     * is read to check that, and the file is only mapped once it passed. A level without an image only exists as a file
+     * and is always read from it. Otherwise the level image is decoded instead, and an out of date file is converted again
+     * for the next load.
+     * @param index the index of the level
+     * @return the new {@link Level}
+     */
+    private Level loadLevel(int index) {
+        File file = LoadSave.GetLevelFile(index);
+        URL imageUrl = LoadSave.GetLevelImageURL(index);
+        boolean outOfDate = false;
+
+        if (file.exists())
+            try {
+                LevelFormat.Header header = LevelFormat.ReadHeader(file);
+                if (imageUrl == null || isUpToDate(header.source(), imageUrl))
+                    return new Level(LevelFormat.Map(file));
+                outOfDate = true;
+                System.out.println(file.getPath() + " was converted from an older level image, loading the level image instead");
+            } catch (IOException | IllegalArgumentException e) {
+                outOfDate = true;
+                System.out.println("Could not read " + file.getPath() + ", loading the level image instead: " + e.getMessage());
+            }
+
+        BufferedImage image = LoadSave.GetLevelImage(index);
+        if (outOfDate && imageUrl != null)
+            try {
+                LevelFormat.Convert(image, LevelFormat.ReadSource(imageUrl), file);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        return new Level(image);
+    }
+
+    /**
+     * Checks if a level file was converted from the current level image.
+     * </p>
+     * The size and the modification time of the image are compared first, which doesn't read it. The image is only hashed
+     * when its size is the same but its modification time changed, like after being copied or touched.
+     * @param recorded the {@link LevelFormat.Source} recorded in the level file
+     * @param imageUrl the {@link URL} of the current level image
+     * @return {@code true} if the level file can be used, {@code false} if it is out of date
+     * @throws IOException if the image can't be read
+     */
+    private static boolean isUpToDate(LevelFormat.Source recorded, URL imageUrl) throws IOException {
+        LevelFormat.Source current = LevelFormat.StatSource(imageUrl);
+        if (current.size() != recorded.size())
+            return false;
+        if (current.modified() == recorded.modified())
+            return true;
+        return LevelFormat.ComputeCrc(imageUrl) == recorded.crc();
+    }
+}
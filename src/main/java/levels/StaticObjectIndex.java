@@ -0,0 +1,83 @@
+package levels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+public class StaticObjectIndex<T> {
+    private final ArrayList<T> items;
+    private final int[] xs;
+
+    /**
+     * Constructor for the StaticObjectIndex class.
+     * </p>
+     * The objects are sorted once by x, so that the ones inside a horizontal range are found with two binary searches
+     * and then read as one contiguous run, instead of testing every object of the level. The objects must never move.
+     * @param objects the objects to index, the list itself is not modified
+     * @param xOf returns the x-coordinate of an object
+     */
+    public StaticObjectIndex(List<T> objects, ToIntFunction<T> xOf) {
+        items = new ArrayList<>(objects);
+        items.sort(Comparator.comparingInt(xOf));
+
+        xs = new int[items.size()];
+        for (int i = 0; i < xs.length; i++)
+            xs[i] = xOf.applyAsInt(items.get(i));
+    }
+
+    /**
+     * Returns the index of the first object at or after an x-coordinate.
+     * @param minX the left edge of the range
+     * @return the index of the first object in the range, or {@link #size()} if there is none
+     */
+    public int first(int minX) {
+        return LowerBound(xs, xs.length, minX);
+    }
+
+    /**
+     * Returns the index right after the last object at or before an x-coordinate.
+     * @param maxX the right edge of the range, inclusive
+     * @return the index after the last object in the range
+     */
+    public int end(int maxX) {
+        if (maxX == Integer.MAX_VALUE)
+            return xs.length;
+        return LowerBound(xs, xs.length, maxX + 1);
+    }
+
+    /**
+     * Returns an object of the index.
+     * @param i the index of the object, in x order
+     * @return the object
+     */
+    public T get(int i) {
+        return items.get(i);
+    }
+
+    /**
+     * Returns the number of indexed objects.
+     * @return the number of objects
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Finds the first sorted x-coordinate that is not below a value.
+     * @param xs the x-coordinates, sorted
+     * @param length the number of x-coordinates in use
+     * @param x the value to search
+     * @return the index of that x-coordinate, or {@code length} if every x-coordinate is below the value
+     */
+    public static int LowerBound(int[] xs, int length, int x) {
+        int i = Arrays.binarySearch(xs, 0, length, x);
+        if (i < 0)
+            return -i - 1;
+        // Several objects can share the same x-coordinate, so step back to the first of them
+        while (i > 0 && xs[i - 1] == x)
+            i--;
+        return i;
+    }
+}
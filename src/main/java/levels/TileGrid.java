@@ -0,0 +1,89 @@
+package levels;
+
+public final class TileGrid {
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+    private final TileProperties properties;
+
+    /**
+     * Constructor for the TileGrid class.
+     * </p>
+     * The tiles are stored row by row in a single byte array, one byte per tile, and their {@link TileProperties}
+     * are kept up to date as bitsets, so collision checks never have to decode the tile value.
+     * @param width the width of the grid in tiles
+     * @param height the height of the grid in tiles
+     */
+    public TileGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        tiles = new byte[width * height];
+        properties = new TileProperties(width, height);
+    }
+
+    /**
+     * Sets the sprite index of a tile, and updates its properties.
+     * @param x the x-coordinate of the tile
+     * @param y the y-coordinate of the tile
+     * @param value the sprite index of the tile, between {@code 0} and {@code 255}
+     */
+    public void set(int x, int y, int value) {
+        int i = y * width + x;
+        tiles[i] = (byte) value;
+        properties.set(i, value);
+    }
+
+    /**
+     * Returns the sprite index of a tile. The coordinates must be inside the grid.
+     * @param x the x-coordinate of the tile
+     * @param y the y-coordinate of the tile
+     * @return the sprite index of the tile at (x, y)
+     */
+    public int get(int x, int y) {
+        return tiles[y * width + x] & 0xFF;
+    }
+
+    /**
+     * Checks if a tile is solid. Tiles outside the grid are solid.
+     * @param x the x-coordinate of the tile
+     * @param y the y-coordinate of the tile
+     * @return {@code true} if the tile is solid, {@code false} otherwise
+     */
+    public boolean isSolid(int x, int y) {
+        return properties.has(TileProperties.SOLID, x, y);
+    }
+
+    /**
+     * Checks if a tile is inside the grid.
+     * @param x the x-coordinate of the tile
+     * @param y the y-coordinate of the tile
+     * @return {@code true} if the tile is inside the grid, {@code false} otherwise
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Returns the width of the grid.
+     * @return the width in tiles
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the grid.
+     * @return the height in tiles
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the properties of the tiles, like being solid or water.
+     * @return the {@link TileProperties} of the grid
+     */
+    public TileProperties getProperties() {
+        return properties;
+    }
+}
@@ -0,0 +1,187 @@
+package levels;
+
+public final class TileProperties {
+    public static final int SOLID = 0;
+    public static final int WATER_TOP = 1;
+    public static final int WATER_BOTTOM = 2;
+    public static final int GRASS = 3;
+    private static final int PROPERTY_COUNT = 4;
+
+    public static final int WATER_TOP_TILE = 48;
+    public static final int WATER_BOTTOM_TILE = 49;
+    private static final int AIR_TILE = 11;
+
+    /**
+     * The properties of every sprite index, one bit per property.
+     */
+    private static final int[] FLAGS = new int[256];
+
+    static {
+        for (int value = 0; value < FLAGS.length; value++) {
+            int flags = 0;
+            if (value != AIR_TILE && value != WATER_TOP_TILE && value != WATER_BOTTOM_TILE)
+                flags |= 1 << SOLID;
+            if (value == WATER_TOP_TILE)
+                flags |= 1 << WATER_TOP;
+            if (value == WATER_BOTTOM_TILE)
+                flags |= 1 << WATER_BOTTOM;
+            switch (value) {
+                case 0, 1, 2, 3, 30, 31, 33, 34, 35, 36, 37, 38, 39 -> flags |= 1 << GRASS;
+            }
+            FLAGS[value] = flags;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final long[][] bits;
+
+    /**
+     * Constructor for the TileProperties class.
+     * </p>
+     * Every property gets its own bitset over the tiles of the level, in the same row-major order as the {@link TileGrid},
+     * so a whole span of a row is tested a 64-bit word at a time instead of tile by tile.
+     * @param width the width of the level in tiles
+     * @param height the height of the level in tiles
+     */
+    TileProperties(int width, int height) {
+        this.width = width;
+        this.height = height;
+        bits = new long[PROPERTY_COUNT][(width * height + 63) >>> 6];
+    }
+
+    /**
+     * Updates the properties of a tile after its sprite index changed.
+     * @param index the row-major index of the tile
+     * @param value the new sprite index of the tile
+     */
+    void set(int index, int value) {
+        int flags = FLAGS[value & 0xFF];
+        long mask = 1L << index;
+        for (int p = 0; p < PROPERTY_COUNT; p++)
+            if ((flags & (1 << p)) != 0)
+                bits[p][index >>> 6] |= mask;
+            else
+                bits[p][index >>> 6] &= ~mask;
+    }
+
+    /**
+     * Checks if a tile has a property. Tiles outside the level are solid and have no other property.
+     * @param property the property, like {@link #SOLID} or {@link #WATER_TOP}
+     * @param x the x-coordinate of the tile
+     * @param y the y-coordinate of the tile
+     * @return {@code true} if the tile has the property, {@code false} otherwise
+     */
+    public boolean has(int property, int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height)
+            return property == SOLID;
+        int i = y * width + x;
+        return (bits[property][i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Checks if any tile of a row span has a property.
+     * @param property the property
+     * @param y the row of the span
+     * @param xStart the first column of the span
+     * @param xEnd the column right after the span
+     * @return {@code true} if at least one tile of the span has the property, {@code false} otherwise or if the span is empty
+     */
+    public boolean any(int property, int y, int xStart, int xEnd) {
+        if (xStart >= xEnd)
+            return false;
+        if (y < 0 || y >= height || xStart < 0 || xEnd > width) {
+            if (property == SOLID)
+                return true;
+            if (y < 0 || y >= height)
+                return false;
+            xStart = Math.max(xStart, 0);
+            xEnd = Math.min(xEnd, width);
+            if (xStart >= xEnd)
+                return false;
+        }
+        return AnySet(bits[property], y * width + xStart, y * width + xEnd);
+    }
+
+    /**
+     * Checks if every tile of a row span has a property.
+     * @param property the property
+     * @param y the row of the span
+     * @param xStart the first column of the span
+     * @param xEnd the column right after the span
+     * @return {@code true} if every tile of the span has the property or if the span is empty, {@code false} otherwise
+     */
+    public boolean all(int property, int y, int xStart, int xEnd) {
+        if (xStart >= xEnd)
+            return true;
+        if (y < 0 || y >= height || xStart < 0 || xEnd > width) {
+            if (property != SOLID)
+                return false;
+            if (y < 0 || y >= height)
+                return true;
+            xStart = Math.max(xStart, 0);
+            xEnd = Math.min(xEnd, width);
+            if (xStart >= xEnd)
+                return true;
+        }
+        return AllSet(bits[property], y * width + xStart, y * width + xEnd);
+    }
+
+    /**
+     * Checks if a sprite index has a property, without needing a level.
+     * @param value the sprite index of the tile
+     * @param property the property
+     * @return {@code true} if the tile has the property, {@code false} otherwise
+     */
+    public static boolean HasProperty(int value, int property) {
+        return (FLAGS[value & 0xFF] & (1 << property)) != 0;
+    }
+
+    /**
+     * Checks if any bit of a range is set, masking the first and last words and testing the words in between whole.
+     * @param words the bitset
+     * @param from the first bit of the range
+     * @param to the bit right after the range, greater than {@code from}
+     * @return {@code true} if a bit is set, {@code false} otherwise
+     */
+    private static boolean AnySet(long[] words, int from, int to) {
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (first == last)
+            return (words[first] & firstMask & lastMask) != 0;
+
+        if ((words[first] & firstMask) != 0)
+            return true;
+        for (int w = first + 1; w < last; w++)
+            if (words[w] != 0)
+                return true;
+        return (words[last] & lastMask) != 0;
+    }
+
+    /**
+     * Checks if every bit of a range is set, masking the first and last words and testing the words in between whole.
+     * @param words the bitset
+     * @param from the first bit of the range
+     * @param to the bit right after the range, greater than {@code from}
+     * @return {@code true} if every bit is set, {@code false} otherwise
+     */
+    private static boolean AllSet(long[] words, int from, int to) {
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (first == last)
+            return (words[first] & firstMask & lastMask) == (firstMask & lastMask);
+
+        if ((words[first] & firstMask) != firstMask)
+            return false;
+        for (int w = first + 1; w < last; w++)
+            if (words[w] != -1L)
+                return false;
+        return (words[last] & lastMask) == lastMask;
+    }
+}
@@ -6,11 +6,16 @@ import gamestates.Gamestate;
 import gamestates.Menu;
 import gamestates.Playing;
 import ui.AudioOptions;
+import utils.AssetManager;
 import utils.Constants;
+import utils.LoadSave;
 import audio.AudioPlayer;
 import gamesaves.GameSaves;
 
+import java.awt.Color;
 import java.awt.Graphics;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static utils.Constants.GameConstants.*;
 
@@ -18,7 +23,7 @@ public class Game implements Runnable {
     private GamePanel gamePanel;
     private Thread gameThread;
 
-    private Playing playing;
+    private CompletableFuture<Playing> playing;
     private Menu menu;
     private Credits credits;
     private GameOptions gameOptions;
@@ -28,6 +33,8 @@ public class Game implements Runnable {
 
     private final boolean SHOW_FPS_UPS = true;
 
+    private volatile float interpolation;
+
     /**
      * Constructor for the Game class.
      */
@@ -45,34 +52,79 @@ public class Game implements Runnable {
 
     /**
      * Initializes the game classes used in the game.
+     * </p>
+     * Every image is decoded in parallel on the asset threads. The menu is built as soon as its own images are ready,
+     * while the playing state, with its levels, and the music keep loading in the background.
      */
     private void initClasses() {
         settings = new Settings();
 
         Constants.UpdateConstantsDependingOnScale(settings.getScale());
 
+        preloadAssets();
+        playing = AssetManager.Submit(this::createPlaying);
+        // Reported once here, the loops only check the future and never rethrow its exception
+        playing.whenComplete((p, e) -> {
+            if (e != null) {
+                System.out.println("Could not load the game:");
+                e.printStackTrace();
+            }
+        });
+
         audioPlayer = new AudioPlayer();
         audioOptions = new AudioOptions(this, settings);
         menu = new Menu(this);
         credits = new Credits(this);
         gameOptions = new GameOptions(this);
-        
+    }
+
+    /**
+     * Starts decoding the texture atlas and every standalone image in parallel.
+     */
+    private void preloadAssets() {
+        AssetManager.Submit(LoadSave::GetTextureAtlas);
+
+        // Menu images first, so that the menu can show up as early as possible
+        AssetManager.LoadImages(
+                LoadSave.Images.ICON,
+                LoadSave.Images.MENU_BACKGROUND,
+                LoadSave.Images.MENU_BACKGROUND_IMAGE,
+                LoadSave.Images.OPTIONS_MENU);
+
+        AssetManager.LoadImages(
+                LoadSave.Images.PLAYING_BACKGROUND_IMAGE,
+                LoadSave.Images.BIG_CLOUDS,
+                LoadSave.Images.SMALL_CLOUDS,
+                LoadSave.Images.STATUS_BAR,
+                LoadSave.Images.PAUSE_BACKGROUND,
+                LoadSave.Images.COMPLETED_IMG,
+                LoadSave.Images.DEATH_SCREEN,
+                LoadSave.Images.GAME_COMPLETED);
+    }
+
+    /**
+     * Creates the playing state and loads the saved game into it. This runs on an asset thread.
+     * @return the {@link Playing} state, ready to be played
+     */
+    private Playing createPlaying() {
         // Create Playing instance first (without GameSaves)
-        playing = new Playing(this);
-        
+        Playing playing = new Playing(this);
+
         // Create GameSaves instance after Playing is initialized
-        GameSaves gameSaves = new GameSaves(this);
-        
+        GameSaves gameSaves = new GameSaves(playing);
+
         // Set the GameSaves instance in Playing
         playing.setGameSaves(gameSaves);
+        return playing;
     }
 
     /**
-     * Starts the game loop in a new thread.
+     * Starts the game loop in a new thread, and the render loop of the game panel in another one.
      */
     private void startGameLoop() {
         gameThread = new Thread(this);
         gameThread.start();
+        gamePanel.startRendering();
     }
 
     /**
@@ -81,7 +133,10 @@ public class Game implements Runnable {
     public void update() {
         switch (Gamestate.state) {
             case MENU -> menu.update();
-            case PLAYING -> playing.update();
+            case PLAYING -> {
+                if (isPlayingReady())
+                    getPlaying().update();
+            }
             case OPTIONS -> gameOptions.update();
             case CREDITS -> credits.update();
             case QUIT -> quitGame(0);
@@ -95,19 +150,30 @@ public class Game implements Runnable {
      */
     private void quitGame(int exitCode) {
         audioPlayer.shutdown();
-        if (settings.getSaveOnExit())
-            playing.getGameSaves().saveGame();
+        if (settings.getSaveOnExit() && isPlayingReady())
+            getPlaying().getGameSaves().saveGame();
         System.exit(exitCode);
     }
 
     /**
-     * Renders the current game state to the graphics context.
+     * Renders the current game state to the graphics context. This runs on the render thread.
+     * </p>
+     * Only the playing state is drawn from a published snapshot. The menu, the options and the credits are drawn straight
+     * from the objects the game thread updates, and the mouse handlers on the EDT already write to them the same way.
+     * Racing them is harmless: their updates only overwrite int and boolean fields in place, like a button sprite index
+     * or the y-coordinate of a credits line, and never add, remove or reorder anything. A frame drawn during an update
+     * can at worst show a button with the wrong hover sprite or a credits line one update behind, and the next frame is right.
      * @param g the {@link Graphics} object to draw on
      */
     public void render(Graphics g) {
         switch (Gamestate.state) {
             case MENU -> menu.draw(g);
-            case PLAYING -> playing.draw(g);
+            case PLAYING -> {
+                if (isPlayingReady())
+                    getPlaying().draw(g, interpolation);
+                else
+                    drawLoading(g);
+            }
             case OPTIONS -> gameOptions.draw(g);
             case CREDITS -> credits.draw(g);
             case QUIT -> {
@@ -116,56 +182,74 @@ public class Game implements Runnable {
         }
     }
 
+    /**
+     * Draws the screen shown while the playing state is still being built, or the error if building it failed.
+     * @param g the {@link Graphics} object to draw on
+     */
+    private void drawLoading(Graphics g) {
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
+        g.setColor(Color.WHITE);
+        g.drawString(playing.isCompletedExceptionally() ? "Could not load the game" : "Loading...", GAME_WIDTH / 2 - 40, GAME_HEIGHT / 2);
+    }
+
     @Override
     public void run() {
-        final double nanoSeconds = 1_000_000_000.0;
-        final double timePerFrame = nanoSeconds / FPS_SET;
-        final double timePerUpdate = nanoSeconds / UPS_SET;
+        final long nanoSeconds = 1_000_000_000L;
+        final long timePerUpdate = nanoSeconds / UPS_SET;
+
+        LoopScheduler scheduler = new LoopScheduler(timePerUpdate);
 
         long previousTime = System.nanoTime();
+        long accumulator = 0;
 
-        int frames = 0;
         int updates = 0;
         long lastCheck = System.currentTimeMillis();
 
-        double deltaU = 0;
-        double deltaF = 0;
-
         while (true) {
             long currentTime = System.nanoTime();
-
-            deltaU += (currentTime - previousTime) / timePerUpdate;
-            deltaF += (currentTime - previousTime) / timePerFrame;
+            accumulator += currentTime - previousTime;
             previousTime = currentTime;
 
-            if (deltaU >= 1) {
+            int catchUpUpdates = 0;
+            while (accumulator >= timePerUpdate && catchUpUpdates < MAX_CATCH_UP_UPDATES) {
                 update();
                 updates++;
-                deltaU--;
+                catchUpUpdates++;
+                accumulator -= timePerUpdate;
             }
 
-            if (deltaF >= 1) {
-                gamePanel.repaint();
-                frames++;
-                deltaF--;
-            }
+            // Still behind after the capped catch-up: drop the backlog instead of spiralling further behind
+            if (accumulator >= timePerUpdate)
+                accumulator %= timePerUpdate;
+
+            interpolation = accumulator / (float) timePerUpdate;
 
             if (SHOW_FPS_UPS)
                 if (System.currentTimeMillis() - lastCheck >= 1000) {
                     lastCheck = System.currentTimeMillis();
-                    System.out.println("FPS: " + frames + " | UPS: " + updates);
-                    frames = 0;
+                    System.out.println("UPS: " + updates);
                     updates = 0;
                 }
+
+            scheduler.waitUntil(currentTime + timePerUpdate - accumulator);
         }
     }
 
+    /**
+     * Returns whether the game and render loops should print their FPS and UPS every second.
+     * @return {@code true} if the statistics should be printed, {@code false} otherwise
+     */
+    public boolean isShowingFpsUps() {
+        return SHOW_FPS_UPS;
+    }
+
     /**
      * Called when the window loses focus.
      */
     public void windowFocusLost() {
-        if (Gamestate.state == Gamestate.PLAYING)
-            playing.getPlayer().resetDirBooleans();
+        if (Gamestate.state == Gamestate.PLAYING && isPlayingReady())
+            getPlaying().getPlayer().resetDirBooleans();
     }
 
     /**
@@ -178,10 +262,30 @@ public class Game implements Runnable {
 
     /**
      * Returns the Playing object for the game, which contains the game logic and state.
+     * </p>
+     * The playing state is built in the background at startup, so this waits for it if it isn't ready yet.
+     * The render thread and the EDT must check {@link #isPlayingReady()} first, or use {@link #whenPlayingReady(Consumer)}.
      * @return the {@link Playing} object
      */
     public Playing getPlaying() {
-        return playing;
+        return playing.join();
+    }
+
+    /**
+     * Checks if the playing state was built, without waiting for it.
+     * @return {@code true} if {@link #getPlaying()} returns right away, {@code false} if it is still loading or failed to load
+     */
+    public boolean isPlayingReady() {
+        return playing.isDone() && !playing.isCompletedExceptionally();
+    }
+
+    /**
+     * Runs an action with the playing state once it is built, right away if it already is, without blocking the caller.
+     * Nothing is run if building the playing state failed.
+     * @param action the action to run with the {@link Playing} object
+     */
+    public void whenPlayingReady(Consumer<Playing> action) {
+        playing.thenAccept(action);
     }
 
     /**
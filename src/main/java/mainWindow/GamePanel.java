@@ -1,15 +1,16 @@
 package mainWindow;
 
+import static utils.Constants.GameConstants.FPS_SET;
 import static utils.Constants.GameConstants.GAME_HEIGHT;
 import static utils.Constants.GameConstants.GAME_WIDTH;
 
 import inputs.KeyboardInputs;
 import inputs.MouseInputs;
 
-import javax.swing.JPanel;
 import java.awt.*;
+import java.awt.image.BufferStrategy;
 
-public class GamePanel extends JPanel {
+public class GamePanel extends Canvas implements Runnable {
     private MouseInputs mouseInputs;
     private Game game;
 
@@ -22,6 +23,9 @@ public class GamePanel extends JPanel {
         mouseInputs = new MouseInputs(this);
         setPanelSize();
 
+        // Frames are drawn by the render thread, never by the AWT paint cycle
+        this.setIgnoreRepaint(true);
+
         this.addKeyListener(new KeyboardInputs(this));
         this.addMouseListener(mouseInputs);
         this.addMouseMotionListener(mouseInputs);
@@ -37,18 +41,86 @@ public class GamePanel extends JPanel {
         this.setMaximumSize(size);
     }
 
+    /**
+     * Creates the buffer strategy and starts the render thread.
+     * </p>
+     * The panel must already be displayed in its window, otherwise no buffer strategy can be created.
+     */
+    public void startRendering() {
+        try {
+            createBufferStrategy(3);
+        } catch (Exception e) {
+            createBufferStrategy(2);
+        }
+
+        Thread renderThread = new Thread(this, "Render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
     /**
      * Updates the game state.
      */
     public void updateGame() {}
 
+    @Override
+    public void run() {
+        final long timePerFrame = 1_000_000_000L / FPS_SET;
+
+        LoopScheduler scheduler = new LoopScheduler(timePerFrame);
+        long nextFrame = System.nanoTime();
+
+        int frames = 0;
+        long lastCheck = System.currentTimeMillis();
+
+        while (true) {
+            long currentTime = System.nanoTime();
+
+            if (currentTime >= nextFrame) {
+                renderFrame();
+                frames++;
+                scheduler.recordFrame(currentTime);
+                nextFrame += timePerFrame;
+
+                // A late frame is simply late, don't render several in a row to catch up
+                if (currentTime - nextFrame >= timePerFrame)
+                    nextFrame = currentTime + timePerFrame;
+            }
+
+            if (game.isShowingFpsUps())
+                if (System.currentTimeMillis() - lastCheck >= 1000) {
+                    lastCheck = System.currentTimeMillis();
+                    System.out.println("FPS: " + frames
+                            + String.format(" | Jitter: avg %.2f ms, max %.2f ms", scheduler.getAverageJitterMillis(), scheduler.getMaxJitterMillis()));
+                    frames = 0;
+                    scheduler.resetJitter();
+                }
+
+            scheduler.waitUntil(nextFrame);
+        }
+    }
+
     /**
-     * Renders the game graphics.
-     * @param g the {@link Graphics} object used for rendering
+     * Renders one frame into the back buffer and shows it, redrawing it if the buffer contents were lost meanwhile.
      */
-    public void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        game.render(g);
+    private void renderFrame() {
+        BufferStrategy bufferStrategy = getBufferStrategy();
+
+        do {
+            do {
+                Graphics g = bufferStrategy.getDrawGraphics();
+                try {
+                    g.clearRect(0, 0, getWidth(), getHeight());
+                    game.render(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
     }
 
     /**
@@ -0,0 +1,86 @@
+package mainWindow;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class LoopScheduler {
+    /**
+     * Below this many nanoseconds before a deadline the scheduler stops parking and spins instead,
+     * because {@link LockSupport#parkNanos(long)} can oversleep by more than that on most platforms.
+     */
+    private static final long SPIN_THRESHOLD = 300_000;
+
+    private final long targetFrameTime;
+    private long lastFrameTime = -1;
+    private long jitterSum, jitterMax;
+    private int jitterSamples;
+
+    /**
+     * Constructor for the LoopScheduler class.
+     * @param targetFrameTime the expected time between two frames, in nanoseconds
+     */
+    public LoopScheduler(long targetFrameTime) {
+        this.targetFrameTime = targetFrameTime;
+    }
+
+    /**
+     * Blocks the calling thread until the given deadline is reached.
+     * </p>
+     * The thread is parked while the deadline is far away and only spins for the last few hundred microseconds,
+     * so an idle loop no longer keeps a whole core busy.
+     * @param deadline the {@link System#nanoTime()} value to wait for
+     */
+    public void waitUntil(long deadline) {
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                return;
+
+            if (remaining > SPIN_THRESHOLD)
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            else
+                Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Records that a frame was dispatched, and measures how far the time since the previous frame was from the target.
+     * @param now the {@link System#nanoTime()} value at which the frame was dispatched
+     */
+    public void recordFrame(long now) {
+        if (lastFrameTime != -1) {
+            long jitter = Math.abs((now - lastFrameTime) - targetFrameTime);
+            jitterSum += jitter;
+            jitterSamples++;
+            if (jitter > jitterMax)
+                jitterMax = jitter;
+        }
+        lastFrameTime = now;
+    }
+
+    /**
+     * Returns the average frame-time jitter since the last reset.
+     * @return the average jitter in milliseconds
+     */
+    public double getAverageJitterMillis() {
+        if (jitterSamples == 0)
+            return 0;
+        return jitterSum / (double) jitterSamples / 1_000_000.0;
+    }
+
+    /**
+     * Returns the worst frame-time jitter since the last reset.
+     * @return the maximum jitter in milliseconds
+     */
+    public double getMaxJitterMillis() {
+        return jitterMax / 1_000_000.0;
+    }
+
+    /**
+     * Resets the jitter statistics, typically after they have been reported.
+     */
+    public void resetJitter() {
+        jitterSum = 0;
+        jitterMax = 0;
+        jitterSamples = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package objects;
+
+import levels.StaticObjectIndex;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class DecorationLayer {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int animationCount, animationSpeed;
+    private final Random random;
+
+    private int[] x = new int[INITIAL_CAPACITY];
+    private int[] y = new int[INITIAL_CAPACITY];
+    private int[] type = new int[INITIAL_CAPACITY];
+    private int[] animationIndex = new int[INITIAL_CAPACITY];
+    private int[] animationTick = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Constructor for the DecorationLayer class.
+     * </p>
+     * Decorations, like grass and background trees, only have a position, a type and an animation frame,
+     * so they are stored as parallel arrays instead of one object each. Call {@link #sort()} once every decoration is added.
+     * @param animationCount the number of animation frames of the decorations, {@code 1} if they aren't animated
+     * @param animationSpeed the number of updates each animation frame lasts
+     * @param random the seeded {@link Random} the starting frames are drawn from, shared by every layer of the level
+     */
+    public DecorationLayer(int animationCount, int animationSpeed, Random random) {
+        this.animationCount = animationCount;
+        this.animationSpeed = animationSpeed;
+        this.random = random;
+    }
+
+    /**
+     * Adds a decoration. Animated decorations start on a random frame, so that they don't all move in step.
+     * @param x the x-coordinate of the decoration
+     * @param y the y-coordinate of the decoration
+     * @param type the type of the decoration
+     */
+    public void add(int x, int y, int type) {
+        if (size == this.x.length)
+            grow();
+
+        this.x[size] = x;
+        this.y[size] = y;
+        this.type[size] = type;
+        animationIndex[size] = animationCount > 1 ? random.nextInt(animationCount) : 0;
+        animationTick[size] = 0;
+        size++;
+    }
+
+    /**
+     * Sorts the decorations by x and trims the arrays, so that the visible ones can be found with {@link #first(int)} and {@link #end(int)}.
+     * </p>
+     * The sort keys pack the x-coordinate with the current position, so no object is created while sorting.
+     */
+    public void sort() {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++)
+            keys[i] = (long) x[i] << 32 | i;
+        Arrays.sort(keys);
+
+        int[] sortedX = new int[size], sortedY = new int[size], sortedType = new int[size];
+        int[] sortedIndex = new int[size], sortedTick = new int[size];
+        for (int i = 0; i < size; i++) {
+            int from = (int) keys[i];
+            sortedX[i] = x[from];
+            sortedY[i] = y[from];
+            sortedType[i] = type[from];
+            sortedIndex[i] = animationIndex[from];
+            sortedTick[i] = animationTick[from];
+        }
+
+        x = sortedX;
+        y = sortedY;
+        type = sortedType;
+        animationIndex = sortedIndex;
+        animationTick = sortedTick;
+    }
+
+    /**
+     * Advances the animation of a range of decorations.
+     * @param from the first decoration to update
+     * @param to the decoration right after the last one to update
+     */
+    public void update(int from, int to) {
+        if (animationCount <= 1)
+            return;
+
+        for (int i = from; i < to; i++)
+            if (++animationTick[i] >= animationSpeed) {
+                animationTick[i] = 0;
+                if (++animationIndex[i] >= animationCount)
+                    animationIndex[i] = 0;
+            }
+    }
+
+    /**
+     * Returns the index of the first decoration at or after an x-coordinate.
+     * @param minX the left edge of the range
+     * @return the index of the first decoration in the range, or {@link #size()} if there is none
+     */
+    public int first(int minX) {
+        return StaticObjectIndex.LowerBound(x, size, minX);
+    }
+
+    /**
+     * Returns the index right after the last decoration at or before an x-coordinate.
+     * @param maxX the right edge of the range, inclusive
+     * @return the index after the last decoration in the range
+     */
+    public int end(int maxX) {
+        if (maxX == Integer.MAX_VALUE)
+            return size;
+        return StaticObjectIndex.LowerBound(x, size, maxX + 1);
+    }
+
+    /**
+     * Returns the number of decorations.
+     * @return the number of decorations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the x-coordinate of a decoration.
+     * @param i the index of the decoration
+     * @return the x-coordinate
+     */
+    public int getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * Returns the y-coordinate of a decoration.
+     * @param i the index of the decoration
+     * @return the y-coordinate
+     */
+    public int getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * Returns the type of a decoration.
+     * @param i the index of the decoration
+     * @return the type, like a grass variant or {@link utils.Constants.Tree#TREE_ONE}
+     */
+    public int getType(int i) {
+        return type[i];
+    }
+
+    /**
+     * Returns the current animation frame of a decoration.
+     * @param i the index of the decoration
+     * @return the animation index
+     */
+    public int getAnimationIndex(int i) {
+        return animationIndex[i];
+    }
+
+    /**
+     * Doubles the capacity of every array.
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        type = Arrays.copyOf(type, capacity);
+        animationIndex = Arrays.copyOf(animationIndex, capacity);
+        animationTick = Arrays.copyOf(animationTick, capacity);
+    }
+}
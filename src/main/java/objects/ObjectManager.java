@@ -4,7 +4,13 @@ import entities.Enemy;
 import entities.Player;
 import gamestates.Playing;
 import levels.Level;
+import levels.StaticObjectIndex;
+import levels.TileGrid;
+import snapshots.WorldSnapshot;
 import utils.LoadSave;
+import utils.ObjectPool;
+import utils.SpatialHash;
+import utils.SpriteCache;
 import utils.Constants.Tree;
 
 import java.awt.*;
@@ -23,13 +29,23 @@ import static utils.HelpMethods.IsProjectileHittingLevel;
 public class ObjectManager {
     private Playing playing;
     private BufferedImage spikeImage, cannonBallImage;
-    private BufferedImage[] cannonImages, grassImages;
+    private BufferedImage[] cannonImages, flippedCannonImages, grassImages;
     private BufferedImage[][] potionImages, containerImages, treeImgs;
-    private ArrayList<Potion> potions;
-    private ArrayList<GameContainer> containers;
-    private ArrayList<Projectile> projectiles = new ArrayList<>();
+    private final ArrayList<Potion> potions = new ArrayList<>();
+    private final ArrayList<GameContainer> containers = new ArrayList<>();
+    private final ArrayList<Potion> droppedPotions = new ArrayList<>();
+    private final ObjectPool<Potion> potionPool = new ObjectPool<>(() -> new Potion(0, 0, RED_POTION));
+    private final ProjectilePool projectiles = new ProjectilePool(PROJECTILE_POOL_SIZE);
+
+    private final SpatialHash<Spike> spikeHash = new SpatialHash<>(1);
+    private final SpatialHash<Potion> potionHash = new SpatialHash<>(1);
+    private final SpatialHash<GameContainer> containerHash = new SpatialHash<>(1);
+    private final ArrayList<Spike> spikeCandidates = new ArrayList<>();
+    private final ArrayList<Potion> potionCandidates = new ArrayList<>();
+    private final ArrayList<GameContainer> containerCandidates = new ArrayList<>();
 
     private Level currentLevel;
+    private int cullMargin;
 
     /**
      * Constructor for the ObjectManager class.
@@ -46,7 +62,7 @@ public class ObjectManager {
      * @param p the {@link Player} instance to check for collisions with spikes
      */
     public void checkSpikesTouchedPlayer(Player p) {
-        for (Spike s : currentLevel.getSpikes())
+        for (Spike s : spikeHash.query(p.getHitbox(), spikeCandidates))
             if (s.getHitbox().intersects(p.getHitbox())) {
                 p.kill();
                 return;
@@ -58,7 +74,7 @@ public class ObjectManager {
      * @param e the {@link Enemy} instance to check for collisions with spikes
      */
     public void checkSpikesTouchedEnemy(Enemy e) {
-        for (Spike s : currentLevel.getSpikes())
+        for (Spike s : spikeHash.query(e.getHitbox(), spikeCandidates))
             if (s.getHitbox().intersects(e.getHitbox()))
                 e.hurt(200);
     }
@@ -68,9 +84,10 @@ public class ObjectManager {
      * @param hitbox the hitbox ({@link Rectangle2D.Float}) of the player to check for collisions with potions
      */
     public void checkObjectTouchedPlayer(Rectangle2D.Float hitbox) {
-        for (Potion p : potions)
+        for (Potion p : potionHash.query(hitbox, potionCandidates))
             if (p.isActive() && hitbox.intersects(p.getHitbox())) {
                 p.setActive(false);
+                potionHash.remove(p);
                 applyEffectToPlayer(p);
             }
     }
@@ -91,26 +108,54 @@ public class ObjectManager {
      * @param attackBox the {@link Rectangle2D.Float} representing the attack area
      */
     public void checkObjectHit(Rectangle2D.Float attackBox) {
-        for (GameContainer gc : containers)
+        for (GameContainer gc : containerHash.query(attackBox, containerCandidates))
             if (gc.isActive() && !gc.doAnimation && gc.getHitbox().intersects(attackBox)) {
                 gc.setDoAnimation(true);
+                containerHash.remove(gc);
                 int type = RED_POTION;
                 if (gc.getObjectType() == BARREL)
                     type = BLUE_POTION;
-                potions.add(new Potion((int) (gc.getHitbox().x + gc.getHitbox().width / 2), (int) (gc.getHitbox().y - gc.getHitbox().height / 4), type));
+                Potion potion = potionPool.obtain();
+                potion.init((int) (gc.getHitbox().x + gc.getHitbox().width / 2), (int) (gc.getHitbox().y - gc.getHitbox().height / 4), type);
+                potions.add(potion);
+                droppedPotions.add(potion);
+                potionHash.insert(potion, potion.getHitbox());
                 return;
             }
     }
 
     /**
      * Loads the objects for the current level, including potions, containers, and projectiles.
+     * </p>
+     * The spikes, potions and containers are also put in spatial hashes, so that the touch and hit checks only test the ones nearby.
+     * The lists, hashes and pools are refilled rather than recreated, and the potions dropped by containers go back to their pool,
+     * so restarting a level doesn't allocate.
      * @param newLevel the {@link Level} instance to load objects from
      */
     public void loadObjects(Level newLevel) {
         this.currentLevel = newLevel;
-        potions = new ArrayList<>(newLevel.getPotions());
-        containers = new ArrayList<>(newLevel.getContainers());
+        potionPool.freeAll(droppedPotions);
+        droppedPotions.clear();
         projectiles.clear();
+
+        potions.clear();
+        for (Potion p : newLevel.getPotions())
+            potions.add(p);
+        containers.clear();
+        for (GameContainer gc : newLevel.getContainers())
+            containers.add(gc);
+
+        int columns = newLevel.getLevelData().getWidth();
+        spikeHash.reset(columns);
+        potionHash.reset(columns);
+        containerHash.reset(columns);
+
+        for (Spike s : newLevel.getSpikes())
+            spikeHash.insert(s, s.getHitbox());
+        for (Potion p : potions)
+            potionHash.insert(p, p.getHitbox());
+        for (GameContainer gc : containers)
+            containerHash.insert(gc, gc.getHitbox());
     }
 
     /**
@@ -159,6 +204,52 @@ public class ObjectManager {
         grassImages = new BufferedImage[2];
         for (int i = 0; i < grassImages.length; i++)
             grassImages[i] = grassTemp.getSubimage(i * 32, 0, 32, 32);
+
+        scaleImages();
+    }
+
+    /**
+     * Replaces every loaded sprite by a copy scaled to its drawing size, so that objects are drawn with plain blits.
+     * </p>
+     * The right-facing cannon gets its own flipped sprites, and the third tree type, which reuses the sprites of the second one
+     * at another width, gets its own row.
+     */
+    private void scaleImages() {
+        potionImages = SpriteCache.GetScaled(potionImages, POTION_WIDTH, POTION_HEIGHT, false);
+        containerImages = SpriteCache.GetScaled(containerImages, CONTAINER_WIDTH, CONTAINER_HEIGHT, false);
+        spikeImage = SpriteCache.GetScaled(spikeImage, SPIKE_WIDTH, SPIKE_HEIGHT);
+        flippedCannonImages = SpriteCache.GetScaled(cannonImages, CANNON_WIDTH, CANNON_HEIGHT, true);
+        cannonImages = SpriteCache.GetScaled(cannonImages, CANNON_WIDTH, CANNON_HEIGHT, false);
+        cannonBallImage = SpriteCache.GetScaled(cannonBallImage, CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT);
+        grassImages = SpriteCache.GetScaled(grassImages, (int) (32 * SCALE), (int) (32 * SCALE), false);
+
+        treeImgs = new BufferedImage[][] {
+                SpriteCache.GetScaled(treeImgs[0], GetTreeWidth(TREE_ONE), GetTreeHeight(TREE_ONE), false),
+                SpriteCache.GetScaled(treeImgs[1], GetTreeWidth(TREE_TWO), GetTreeHeight(TREE_TWO), false),
+                SpriteCache.GetScaled(treeImgs[1], GetTreeWidth(TREE_THREE), GetTreeHeight(TREE_THREE), false)
+        };
+
+        // Wide enough for the biggest static sprite, so that one starting left of the screen is still drawn
+        int widest = Math.max(GetTreeWidth(TREE_ONE), Math.max(GetTreeWidth(TREE_TWO), GetTreeWidth(TREE_THREE)));
+        cullMargin = Math.max(widest, CANNON_WIDTH) + TILES_SIZE;
+    }
+
+    /**
+     * Returns the left edge of the range of static objects that can be on screen.
+     * @param xLvlOffset the x-level offset of the screen
+     * @return the smallest x-coordinate of an object to draw
+     */
+    private int getVisibleMinX(int xLvlOffset) {
+        return xLvlOffset - cullMargin;
+    }
+
+    /**
+     * Returns the right edge of the range of static objects that can be on screen.
+     * @param xLvlOffset the x-level offset of the screen
+     * @return the largest x-coordinate of an object to draw
+     */
+    private int getVisibleMaxX(int xLvlOffset) {
+        return xLvlOffset + GAME_WIDTH + cullMargin;
     }
 
     /**
@@ -166,7 +257,7 @@ public class ObjectManager {
      * @param lvlData the level data array representing the current level
      * @param player the {@link Player} instance to check for interactions with objects
      */
-    public void update(int[][] lvlData, Player player) {
+    public void update(TileGrid lvlData, Player player) {
         updateBackgroundTrees();
         for (Potion p : potions)
             if (p.isActive())
@@ -181,11 +272,12 @@ public class ObjectManager {
     }
 
     /**
-     * Updates the state of all background trees in the current level, cycling through their animations.
+     * Updates the state of the background trees on screen, cycling through their animations. Trees off screen keep their frame.
      */
     private void updateBackgroundTrees() {
-        for (BackgroundTree bt : currentLevel.getTrees())
-            bt.update();
+        DecorationLayer trees = currentLevel.getTrees();
+        int xLvlOffset = playing.getXLevelOffset();
+        trees.update(trees.first(getVisibleMinX(xLvlOffset)), trees.end(getVisibleMaxX(xLvlOffset)));
     }
 
     /**
@@ -193,17 +285,20 @@ public class ObjectManager {
      * @param lvlData the level data array representing the current level
      * @param player the {@link Player} instance to check for collisions with projectiles
      */
-    private void updateProjectiles(int[][] lvlData, Player player) {
-        for (Projectile p : projectiles)
-            if (p.isActive()) {
-                p.updatePosition();
-                if (p.getHitbox().intersects(player.getHitbox())) {
-                    player.changeHealth(-25);
-                    player.setPushBackDirection(p.getDirection() == 1 ? RIGHT : LEFT);
-                    p.setActive(false);
-                } else if (IsProjectileHittingLevel(p, lvlData))
-                    p.setActive(false);
-            }
+    private void updateProjectiles(TileGrid lvlData, Player player) {
+        int i = 0;
+        while (i < projectiles.size()) {
+            Projectile p = projectiles.get(i);
+            p.updatePosition();
+            if (p.getHitbox().intersects(player.getHitbox())) {
+                player.changeHealth(-25);
+                player.setPushBackDirection(p.getDirection() == 1 ? RIGHT : LEFT);
+                projectiles.release(i);
+            } else if (IsProjectileHittingLevel(p, lvlData))
+                projectiles.release(i);
+            else
+                i++;
+        }
     }
 
     /**
@@ -211,7 +306,7 @@ public class ObjectManager {
      * @param lvlData the level data array representing the current level
      * @param player the {@link Player} instance to check for interactions with cannons
      */
-    private void updateCannons(int[][] lvlData, Player player) {
+    private void updateCannons(TileGrid lvlData, Player player) {
         for (Cannon c : currentLevel.getCannons()) {
             if (!c.doAnimation && c.getTileY() == player.getTileY())
                 if (isPlayerInRange(c, player))
@@ -227,12 +322,12 @@ public class ObjectManager {
     }
 
     /**
-     * Shoots a cannon by creating a new Projectile instance at the cannon's position.
+     * Shoots a cannon by taking a projectile from the pool at the cannon's position.
      * @param c the {@link Cannon} instance that is firing
      */
     private void shootCannon(Cannon c) {
         int dir = c.getObjectType() == CANNON_LEFT ? -1 : 1;
-        projectiles.add(new Projectile((int) c.getHitbox().x, (int) c.getHitbox().y, dir));
+        projectiles.spawn((int) c.getHitbox().x, (int) c.getHitbox().y, dir);
     }
 
     /**
@@ -259,148 +354,166 @@ public class ObjectManager {
     }
 
     /**
-     * Draws all game objects on the screen, including potions, containers, traps, cannons, projectiles, and grass.
+     * Writes the state of every drawn object into a snapshot, so that the render thread never reads the live objects.
+     * @param snapshot the {@link WorldSnapshot} being filled by the current update
+     */
+    public void writeSnapshot(WorldSnapshot snapshot) {
+        for (Potion p : potions)
+            if (p.isActive())
+                snapshot.getPotions().add(p.getHitbox().x - p.getXDrawOffset(), p.getHitbox().y - p.getYDrawOffset(), p.getObjectType(), p.getAnimationIndex());
+
+        for (GameContainer gc : containers)
+            if (gc.isActive())
+                snapshot.getContainers().add(gc.getHitbox().x - gc.getXDrawOffset(), gc.getHitbox().y - gc.getYDrawOffset(), gc.getObjectType(), gc.getAnimationIndex());
+
+        int xLvlOffset = snapshot.getXLevelOffset(1f);
+
+        StaticObjectIndex<Cannon> cannons = currentLevel.getCannonIndex();
+        for (int i = cannons.first(getVisibleMinX(xLvlOffset)), end = cannons.end(getVisibleMaxX(xLvlOffset)); i < end; i++) {
+            Cannon c = cannons.get(i);
+            snapshot.getCannons().add(c.getHitbox().x, c.getHitbox().y, c.getObjectType(), c.getAnimationIndex());
+        }
+
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile p = projectiles.get(i);
+            snapshot.getProjectiles().add(p.getHitbox().x, p.getHitbox().y, 0, 0);
+        }
+
+        DecorationLayer trees = currentLevel.getTrees();
+        for (int i = trees.first(getVisibleMinX(xLvlOffset)), end = trees.end(getVisibleMaxX(xLvlOffset)); i < end; i++)
+            snapshot.getTrees().add(trees.getX(i), trees.getY(i), trees.getType(i), trees.getAnimationIndex(i));
+    }
+
+    /**
+     * Draws all game objects of a snapshot on the screen, including potions, containers, traps, cannons, projectiles, and grass.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing objects
+     * @param snapshot the {@link WorldSnapshot} to draw the objects from
      */
-    public void draw(Graphics g, int xLvlOffset) {
-        drawPotions(g, xLvlOffset);
-        drawContainers(g, xLvlOffset);
-        drawTraps(g, xLvlOffset);
-        drawCannons(g, xLvlOffset);
-        drawProjectiles(g, xLvlOffset);
-        drawGrass(g, xLvlOffset);
+    public void draw(Graphics g, int xLvlOffset, WorldSnapshot snapshot) {
+        drawPotions(g, xLvlOffset, snapshot.getPotions());
+        drawContainers(g, xLvlOffset, snapshot.getContainers());
+        drawTraps(g, xLvlOffset, snapshot.getLevel());
+        drawCannons(g, xLvlOffset, snapshot.getCannons());
+        drawProjectiles(g, xLvlOffset, snapshot.getProjectiles());
+        drawGrass(g, xLvlOffset, snapshot.getLevel());
     }
 
     /**
-     * Draws the grass in the current level using the grass images.
+     * Draws the grass of a level using the grass images.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing grass
+     * @param level the {@link Level} holding the grass, which never changes once the level is built
      */
-    private void drawGrass(Graphics g, int xLvlOffset) {
-        for (Grass grass : currentLevel.getGrass())
-            g.drawImage(grassImages[grass.getType()],
-                    grass.getX() - xLvlOffset,
-                    grass.getY(),
-                    (int) (32 * SCALE),
-                    (int) (32 * SCALE),
+    private void drawGrass(Graphics g, int xLvlOffset, Level level) {
+        DecorationLayer grass = level.getGrass();
+        for (int i = grass.first(getVisibleMinX(xLvlOffset)), end = grass.end(getVisibleMaxX(xLvlOffset)); i < end; i++)
+            g.drawImage(grassImages[grass.getType(i)],
+                    grass.getX(i) - xLvlOffset,
+                    grass.getY(i),
                     null);
     }
 
     /**
-     * Draws the background trees in the current level, adjusting their position based on the x-level offset.
+     * Draws the background trees of a snapshot, adjusting their position based on the x-level offset.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing trees
+     * @param trees the {@link WorldSnapshot.SpriteLayer} holding the trees
      */
-    public void drawBackgroundTrees(Graphics g, int xLvlOffset) {
-        for (BackgroundTree bt : currentLevel.getTrees()) {
-            int type = bt.getType();
-            if (type == 9)
-                type = 8;
-            g.drawImage(treeImgs[type - 7][bt.getAnimationIndex()],
-                    bt.getX() - xLvlOffset + GetTreeOffsetX(bt.getType()),
-                    bt.getY() + GetTreeOffsetY(bt.getType()),
-                    GetTreeWidth(bt.getType()),
-                    GetTreeHeight(bt.getType()),
+    public void drawBackgroundTrees(Graphics g, int xLvlOffset, WorldSnapshot.SpriteLayer trees) {
+        for (int i = 0; i < trees.size(); i++) {
+            int type = trees.getType(i);
+            g.drawImage(treeImgs[type - TREE_ONE][trees.getAnimationIndex(i)],
+                    (int) trees.getX(i) - xLvlOffset + GetTreeOffsetX(type),
+                    (int) trees.getY(i) + GetTreeOffsetY(type),
                     null);
         }
     }
 
     /**
-     * Draws the projectiles on the screen, checking if they are active before drawing.
+     * Draws the projectiles of a snapshot on the screen.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing projectiles
+     * @param projectiles the {@link WorldSnapshot.SpriteLayer} holding the active projectiles
      */
-    private void drawProjectiles(Graphics g, int xLvlOffset) {
-        for (Projectile p : projectiles)
-            if (p.isActive())
-                g.drawImage(cannonBallImage,
-                        (int) (p.getHitbox().x - xLvlOffset),
-                        (int) (p.getHitbox().y),
-                        CANNON_BALL_WIDTH,
-                        CANNON_BALL_HEIGHT,
-                        null);
+    private void drawProjectiles(Graphics g, int xLvlOffset, WorldSnapshot.SpriteLayer projectiles) {
+        for (int i = 0; i < projectiles.size(); i++)
+            g.drawImage(cannonBallImage,
+                    (int) (projectiles.getX(i) - xLvlOffset),
+                    (int) (projectiles.getY(i)),
+                    null);
     }
 
     /**
-     * Draws the cannons in the current level, adjusting their position based on the x-level offset.
+     * Draws the cannons of a snapshot, adjusting their position based on the x-level offset.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing cannons
+     * @param cannons the {@link WorldSnapshot.SpriteLayer} holding the cannons
      */
-    private void drawCannons(Graphics g, int xLvlOffset) {
-        for (Cannon c : currentLevel.getCannons()) {
-            int x = (int) (c.getHitbox().x - xLvlOffset);
-            int width = CANNON_WIDTH;
-
-            if (c.getObjectType() == CANNON_RIGHT) {
-                x += width;
-                width *= -1;
-            }
+    private void drawCannons(Graphics g, int xLvlOffset, WorldSnapshot.SpriteLayer cannons) {
+        for (int i = 0; i < cannons.size(); i++) {
+            BufferedImage[] images = cannons.getType(i) == CANNON_RIGHT ? flippedCannonImages : cannonImages;
 
-            g.drawImage(cannonImages[c.getAnimationIndex()],
-                    x,
-                    (int) (c.getHitbox().y),
-                    width,
-                    CANNON_HEIGHT,
+            g.drawImage(images[cannons.getAnimationIndex(i)],
+                    (int) (cannons.getX(i) - xLvlOffset),
+                    (int) (cannons.getY(i)),
                     null);
         }
     }
 
     /**
-     * Draws the traps (spikes) in the current level, adjusting their position based on the x-level offset.
+     * Draws the traps (spikes) of a level, adjusting their position based on the x-level offset.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing traps
+     * @param level the {@link Level} holding the spikes, which never change once the level is built
      */
-    private void drawTraps(Graphics g, int xLvlOffset) {
-        for (Spike s : currentLevel.getSpikes())
+    private void drawTraps(Graphics g, int xLvlOffset, Level level) {
+        StaticObjectIndex<Spike> spikes = level.getSpikeIndex();
+        for (int i = spikes.first(getVisibleMinX(xLvlOffset)), end = spikes.end(getVisibleMaxX(xLvlOffset)); i < end; i++) {
+            Spike s = spikes.get(i);
             g.drawImage(spikeImage,
                     (int) (s.getHitbox().x - xLvlOffset),
                     (int) (s.getHitbox().y - s.getYDrawOffset()),
-                    SPIKE_WIDTH,
-                    SPIKE_HEIGHT,
                     null);
+        }
     }
 
     /**
-     * Draws the containers (like barrels and boxes) in the current level, adjusting their position based on the x-level offset.
+     * Draws the containers (like barrels and boxes) of a snapshot, adjusting their position based on the x-level offset.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing containers
+     * @param containers the {@link WorldSnapshot.SpriteLayer} holding the active containers
      */
-    private void drawContainers(Graphics g, int xLvlOffset) {
-        for (GameContainer gc : containers)
-            if (gc.isActive()) {
-                int rowIndex = BOX_ROW_INDEX;
-                if (gc.getObjectType() == BARREL)
-                    rowIndex = BARREL_ROW_INDEX;
-
-                g.drawImage(containerImages[rowIndex][gc.getAnimationIndex()],
-                        (int) gc.getHitbox().x - gc.getXDrawOffset() - xLvlOffset,
-                        (int) gc.getHitbox().y - gc.getYDrawOffset(),
-                        CONTAINER_WIDTH,
-                        CONTAINER_HEIGHT,
-                        null);
-            }
+    private void drawContainers(Graphics g, int xLvlOffset, WorldSnapshot.SpriteLayer containers) {
+        for (int i = 0; i < containers.size(); i++) {
+            int rowIndex = BOX_ROW_INDEX;
+            if (containers.getType(i) == BARREL)
+                rowIndex = BARREL_ROW_INDEX;
+
+            g.drawImage(containerImages[rowIndex][containers.getAnimationIndex(i)],
+                    (int) containers.getX(i) - xLvlOffset,
+                    (int) containers.getY(i),
+                    null);
+        }
     }
 
     /**
-     * Draws the potions in the current level, adjusting their position based on the x-level offset.
+     * Draws the potions of a snapshot, adjusting their position based on the x-level offset.
      * @param g the {@link Graphics} object used for drawing
      * @param xLvlOffset the x-level offset for drawing potions
+     * @param potions the {@link WorldSnapshot.SpriteLayer} holding the active potions
      */
-    private void drawPotions(Graphics g, int xLvlOffset) {
-        for (Potion p : potions)
-            if (p.isActive()) {
-                int rowIndex = RED_POTION_ROW_INDEX;
-                if (p.getObjectType() == BLUE_POTION)
-                    rowIndex = BLUE_POTION_ROW_INDEX;
-
-                g.drawImage(potionImages[rowIndex][p.getAnimationIndex()],
-                        (int) p.getHitbox().x - p.getXDrawOffset() - xLvlOffset,
-                        (int) p.getHitbox().y - p.getYDrawOffset(),
-                        POTION_WIDTH,
-                        POTION_HEIGHT,
-                        null);
-            }
+    private void drawPotions(Graphics g, int xLvlOffset, WorldSnapshot.SpriteLayer potions) {
+        for (int i = 0; i < potions.size(); i++) {
+            int rowIndex = RED_POTION_ROW_INDEX;
+            if (potions.getType(i) == BLUE_POTION)
+                rowIndex = BLUE_POTION_ROW_INDEX;
+
+            g.drawImage(potionImages[rowIndex][potions.getAnimationIndex(i)],
+                    (int) potions.getX(i) - xLvlOffset,
+                    (int) potions.getY(i),
+                    null);
+        }
     }
 
     /**
@@ -26,6 +26,26 @@ public class Potion extends GameObject {
         maxHoverOffset = (int) (8 * SCALE);
     }
 
+    /**
+     * Moves a pooled potion to a new position and restarts it as if it was just created.
+     * @param x the x-coordinate of the potion
+     * @param y the y-coordinate of the potion
+     * @param objectType the type of the object ({@link utils.Constants.ObjectConstants#RED_POTION} or {@link utils.Constants.ObjectConstants#BLUE_POTION})
+     */
+    public void init(int x, int y, int objectType) {
+        this.x = x;
+        this.y = y;
+        this.objectType = objectType;
+        hitbox.x = x;
+        hitbox.y = y;
+
+        hoverOffset = 0;
+        hoverDirection = 1;
+        hoverTime = 0f;
+        pauseTimer = 0f;
+        reset();
+    }
+
     /**
      * Updates the potion's animation and hover state.
      */
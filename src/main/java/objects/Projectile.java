@@ -6,7 +6,7 @@ import static utils.Constants.GameConstants.SCALE;
 import static utils.Constants.Projectiles.*;
 
 public class Projectile {
-    private Rectangle2D.Float hitbox;
+    private final Rectangle2D.Float hitbox = new Rectangle2D.Float(0, 0, CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT);
     private int direction;
     private boolean active = true;
 
@@ -17,14 +17,28 @@ public class Projectile {
      * @param direction the direction of the projectile ({@code 1} for right, {@code -1} for left)
      */
     public Projectile(int x, int y, int direction) {
+        reset(x, y, direction);
+    }
+
+    /**
+     * Places the projectile at the mouth of a cannon and activates it, so that a pooled projectile can be shot again.
+     * @param x the x-coordinate of the cannon
+     * @param y the y-coordinate of the cannon
+     * @param direction the direction of the projectile ({@code 1} for right, {@code -1} for left)
+     */
+    public final void reset(int x, int y, int direction) {
         int xOffset = (int) (-3 * SCALE);
         int yOffset = (int) (5 * SCALE);
 
         if (direction == 1)
             xOffset = (int) (29 * SCALE);
 
-        hitbox = new Rectangle2D.Float(x + xOffset, y + yOffset, CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT);
+        hitbox.x = x + xOffset;
+        hitbox.y = y + yOffset;
+        hitbox.width = CANNON_BALL_WIDTH;
+        hitbox.height = CANNON_BALL_HEIGHT;
         this.direction = direction;
+        active = true;
     }
 
     /**
@@ -0,0 +1,90 @@
+package objects;
+
+import java.util.Arrays;
+
+public class ProjectilePool {
+    private Projectile[] projectiles;
+    private int size;
+
+    /**
+     * Constructor for the ProjectilePool class.
+     * </p>
+     * The flying projectiles are kept at the start of the array, and the free ones after them, ready to be shot again.
+     * Updating and drawing only read the flying range, and no projectile is created per shot once the pool is large enough.
+     * @param capacity the number of projectiles created up front
+     */
+    public ProjectilePool(int capacity) {
+        projectiles = new Projectile[Math.max(1, capacity)];
+        fill(0);
+    }
+
+    /**
+     * Shoots a projectile, reusing a free one. The pool doubles in size when every projectile is flying.
+     * @param x the x-coordinate of the cannon
+     * @param y the y-coordinate of the cannon
+     * @param direction the direction of the projectile ({@code 1} for right, {@code -1} for left)
+     * @return the shot {@link Projectile}
+     */
+    public Projectile spawn(int x, int y, int direction) {
+        if (size == projectiles.length) {
+            int oldLength = projectiles.length;
+            projectiles = Arrays.copyOf(projectiles, oldLength * 2);
+            fill(oldLength);
+        }
+
+        Projectile p = projectiles[size++];
+        p.reset(x, y, direction);
+        return p;
+    }
+
+    /**
+     * Frees a flying projectile by swapping it with the last flying one, so the flying range stays dense.
+     * </p>
+     * The projectile at {@code i} is replaced by another one, so a loop releasing projectiles must read {@code i} again.
+     * @param i the index of the projectile to free
+     */
+    public void release(int i) {
+        Projectile p = projectiles[i];
+        p.setActive(false);
+        size--;
+        projectiles[i] = projectiles[size];
+        projectiles[size] = p;
+    }
+
+    /**
+     * Returns a flying projectile.
+     * @param i the index of the projectile, between {@code 0} and {@link #size()}
+     * @return the {@link Projectile}
+     */
+    public Projectile get(int i) {
+        return projectiles[i];
+    }
+
+    /**
+     * Returns the number of flying projectiles.
+     * @return the number of projectiles
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Frees every projectile.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            projectiles[i].setActive(false);
+        size = 0;
+    }
+
+    /**
+     * Creates the free projectiles of the array, from an index to its end.
+     * @param from the first empty slot
+     */
+    private void fill(int from) {
+        for (int i = from; i < projectiles.length; i++) {
+            projectiles[i] = new Projectile(0, 0, 1);
+            projectiles[i].setActive(false);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package snapshots;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SnapshotBuffer {
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final WorldSnapshot[] snapshots = { new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot() };
+
+    // The update thread owns the back snapshot, the render thread owns the front one,
+    // and the last published snapshot waits in between until the renderer swaps it in.
+    private final AtomicInteger published = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Returns the snapshot the update thread can fill. Only the update thread may call this.
+     * @return the {@link WorldSnapshot} to write into
+     */
+    public WorldSnapshot getBackSnapshot() {
+        return snapshots[back];
+    }
+
+    /**
+     * Publishes the snapshot returned by {@link #getBackSnapshot()}, and takes the previously published one back for the next update.
+     * Only the update thread may call this.
+     */
+    public void publish() {
+        back = published.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published snapshot. Only the render thread may call this.
+     * </p>
+     * The returned snapshot is never written to until the next call of this method, so it can be drawn without any lock.
+     * @return the {@link WorldSnapshot} to draw
+     */
+    public WorldSnapshot getLatest() {
+        if ((published.get() & FRESH) != 0)
+            front = published.getAndSet(front) & INDEX_MASK;
+        return snapshots[front];
+    }
+}
\ No newline at end of file
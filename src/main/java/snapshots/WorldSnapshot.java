@@ -0,0 +1,392 @@
+package snapshots;
+
+import java.util.Arrays;
+
+import levels.Level;
+
+public class WorldSnapshot {
+    public static class SpriteLayer {
+        private int size;
+        private float[] x, y, prevX, prevY, offset;
+        private int[] type, state, animationIndex, flip;
+
+        /**
+         * Constructor for the SpriteLayer class.
+         * @param capacity the initial number of sprites the layer can hold before growing
+         */
+        public SpriteLayer(int capacity) {
+            x = new float[capacity];
+            y = new float[capacity];
+            prevX = new float[capacity];
+            prevY = new float[capacity];
+            offset = new float[capacity];
+            type = new int[capacity];
+            state = new int[capacity];
+            animationIndex = new int[capacity];
+            flip = new int[capacity];
+        }
+
+        /**
+         * Adds a sprite that doesn't move between two updates.
+         * @param x the x-coordinate of the sprite in the level
+         * @param y the y-coordinate of the sprite in the level
+         * @param type the type of the sprite (object type, dialogue type, ...)
+         * @param animationIndex the current animation index of the sprite
+         */
+        public void add(float x, float y, int type, int animationIndex) {
+            add(x, y, x, y, type, 0, animationIndex, 1, 0);
+        }
+
+        /**
+         * Adds a sprite whose drawing is interpolated between its previous and current position.
+         * @param x the current x-coordinate of the sprite in the level
+         * @param y the current y-coordinate of the sprite in the level
+         * @param prevX the x-coordinate of the sprite at the previous update
+         * @param prevY the y-coordinate of the sprite at the previous update
+         * @param type the type of the sprite (enemy type, ...)
+         * @param state the state of the sprite, used as the animation row
+         * @param animationIndex the current animation index of the sprite
+         * @param flip {@code -1} if the sprite is drawn flipped horizontally, {@code 1} otherwise
+         * @param offset an extra vertical draw offset, like the push back offset of an entity
+         */
+        public void add(float x, float y, float prevX, float prevY, int type, int state, int animationIndex, int flip, float offset) {
+            if (size == this.x.length)
+                grow();
+
+            this.x[size] = x;
+            this.y[size] = y;
+            this.prevX[size] = prevX;
+            this.prevY[size] = prevY;
+            this.type[size] = type;
+            this.state[size] = state;
+            this.animationIndex[size] = animationIndex;
+            this.flip[size] = flip;
+            this.offset[size] = offset;
+            size++;
+        }
+
+        /**
+         * Doubles the capacity of the layer. Once a layer is large enough for a level, it never allocates again.
+         */
+        private void grow() {
+            int capacity = Math.max(4, x.length * 2);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            prevX = Arrays.copyOf(prevX, capacity);
+            prevY = Arrays.copyOf(prevY, capacity);
+            offset = Arrays.copyOf(offset, capacity);
+            type = Arrays.copyOf(type, capacity);
+            state = Arrays.copyOf(state, capacity);
+            animationIndex = Arrays.copyOf(animationIndex, capacity);
+            flip = Arrays.copyOf(flip, capacity);
+        }
+
+        /**
+         * Removes all sprites from the layer, keeping its capacity.
+         */
+        public void clear() {
+            size = 0;
+        }
+
+        /**
+         * Returns the number of sprites in the layer.
+         * @return the number of sprites
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the x-coordinate of a sprite interpolated between the previous and the current update.
+         * @param i the index of the sprite
+         * @param alpha how far the renderer is between the previous update ({@code 0}) and the current one ({@code 1})
+         * @return the interpolated x-coordinate
+         */
+        public float getDrawX(int i, float alpha) {
+            return prevX[i] + (x[i] - prevX[i]) * alpha;
+        }
+
+        /**
+         * Returns the y-coordinate of a sprite interpolated between the previous and the current update.
+         * @param i the index of the sprite
+         * @param alpha how far the renderer is between the previous update ({@code 0}) and the current one ({@code 1})
+         * @return the interpolated y-coordinate
+         */
+        public float getDrawY(int i, float alpha) {
+            return prevY[i] + (y[i] - prevY[i]) * alpha;
+        }
+
+        /**
+         * Returns the current x-coordinate of a sprite.
+         * @param i the index of the sprite
+         * @return the x-coordinate
+         */
+        public float getX(int i) {
+            return x[i];
+        }
+
+        /**
+         * Returns the current y-coordinate of a sprite.
+         * @param i the index of the sprite
+         * @return the y-coordinate
+         */
+        public float getY(int i) {
+            return y[i];
+        }
+
+        /**
+         * Returns the type of a sprite.
+         * @param i the index of the sprite
+         * @return the type
+         */
+        public int getType(int i) {
+            return type[i];
+        }
+
+        /**
+         * Returns the state of a sprite.
+         * @param i the index of the sprite
+         * @return the state
+         */
+        public int getState(int i) {
+            return state[i];
+        }
+
+        /**
+         * Returns the animation index of a sprite.
+         * @param i the index of the sprite
+         * @return the animation index
+         */
+        public int getAnimationIndex(int i) {
+            return animationIndex[i];
+        }
+
+        /**
+         * Returns whether a sprite is drawn flipped.
+         * @param i the index of the sprite
+         * @return {@code -1} if the sprite is flipped horizontally, {@code 1} otherwise
+         */
+        public int getFlip(int i) {
+            return flip[i];
+        }
+
+        /**
+         * Returns the extra vertical draw offset of a sprite.
+         * @param i the index of the sprite
+         * @return the offset
+         */
+        public float getOffset(int i) {
+            return offset[i];
+        }
+    }
+
+    private final SpriteLayer player = new SpriteLayer(1);
+    private final SpriteLayer enemies = new SpriteLayer(32);
+    private final SpriteLayer potions = new SpriteLayer(16);
+    private final SpriteLayer containers = new SpriteLayer(16);
+    private final SpriteLayer cannons = new SpriteLayer(8);
+    private final SpriteLayer projectiles = new SpriteLayer(16);
+    private final SpriteLayer trees = new SpriteLayer(16);
+    private final SpriteLayer dialogue = new SpriteLayer(20);
+
+    private Level level;
+    private int waterAnimationIndex;
+    private int xLevelOffset, prevXLevelOffset;
+    private int playerHealthWidth, playerPowerWidth;
+    private boolean paused, gameOver, levelCompleted, gameCompleted;
+
+    /**
+     * Clears every layer of the snapshot so that it can be filled again for a new update.
+     */
+    public void clear() {
+        player.clear();
+        enemies.clear();
+        potions.clear();
+        containers.clear();
+        cannons.clear();
+        projectiles.clear();
+        trees.clear();
+        dialogue.clear();
+    }
+
+    /**
+     * Sets the level and the water animation frame drawn with this snapshot.
+     * @param level the {@link Level} being played
+     * @param waterAnimationIndex the current animation index of the water
+     */
+    public void setLevel(Level level, int waterAnimationIndex) {
+        this.level = level;
+        this.waterAnimationIndex = waterAnimationIndex;
+    }
+
+    /**
+     * Sets the camera offset of the previous and the current update.
+     * @param prevXLevelOffset the x-level offset at the previous update
+     * @param xLevelOffset the x-level offset at the current update
+     */
+    public void setLevelOffset(int prevXLevelOffset, int xLevelOffset) {
+        this.prevXLevelOffset = prevXLevelOffset;
+        this.xLevelOffset = xLevelOffset;
+    }
+
+    /**
+     * Sets the width of the player's health and power bars.
+     * @param playerHealthWidth the width of the health bar
+     * @param playerPowerWidth the width of the power bar
+     */
+    public void setPlayerBars(int playerHealthWidth, int playerPowerWidth) {
+        this.playerHealthWidth = playerHealthWidth;
+        this.playerPowerWidth = playerPowerWidth;
+    }
+
+    /**
+     * Sets which overlay, if any, is shown over the level.
+     * @param paused whether the game is paused
+     * @param gameOver whether the game is over
+     * @param levelCompleted whether the level is completed
+     * @param gameCompleted whether the game is completed
+     */
+    public void setOverlays(boolean paused, boolean gameOver, boolean levelCompleted, boolean gameCompleted) {
+        this.paused = paused;
+        this.gameOver = gameOver;
+        this.levelCompleted = levelCompleted;
+        this.gameCompleted = gameCompleted;
+    }
+
+    /**
+     * Returns the camera offset interpolated between the previous and the current update.
+     * @param alpha how far the renderer is between the previous update ({@code 0}) and the current one ({@code 1})
+     * @return the interpolated x-level offset
+     */
+    public int getXLevelOffset(float alpha) {
+        return Math.round(prevXLevelOffset + (xLevelOffset - prevXLevelOffset) * alpha);
+    }
+
+    /**
+     * Returns the level drawn with this snapshot.
+     * @return the {@link Level}, or {@code null} if nothing was published yet
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the animation index of the water.
+     * @return the water animation index
+     */
+    public int getWaterAnimationIndex() {
+        return waterAnimationIndex;
+    }
+
+    /**
+     * Returns the width of the player's health bar.
+     * @return the health bar width
+     */
+    public int getPlayerHealthWidth() {
+        return playerHealthWidth;
+    }
+
+    /**
+     * Returns the width of the player's power bar.
+     * @return the power bar width
+     */
+    public int getPlayerPowerWidth() {
+        return playerPowerWidth;
+    }
+
+    /**
+     * Returns whether the game is paused.
+     * @return {@code true} if the game is paused, {@code false} otherwise
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Returns whether the game is over.
+     * @return {@code true} if the game is over, {@code false} otherwise
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns whether the level is completed.
+     * @return {@code true} if the level is completed, {@code false} otherwise
+     */
+    public boolean isLevelCompleted() {
+        return levelCompleted;
+    }
+
+    /**
+     * Returns whether the game is completed.
+     * @return {@code true} if the game is completed, {@code false} otherwise
+     */
+    public boolean isGameCompleted() {
+        return gameCompleted;
+    }
+
+    /**
+     * Returns the layer holding the player.
+     * @return the player {@link SpriteLayer}
+     */
+    public SpriteLayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the layer holding the active enemies.
+     * @return the enemies {@link SpriteLayer}
+     */
+    public SpriteLayer getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * Returns the layer holding the active potions.
+     * @return the potions {@link SpriteLayer}
+     */
+    public SpriteLayer getPotions() {
+        return potions;
+    }
+
+    /**
+     * Returns the layer holding the active containers.
+     * @return the containers {@link SpriteLayer}
+     */
+    public SpriteLayer getContainers() {
+        return containers;
+    }
+
+    /**
+     * Returns the layer holding the cannons.
+     * @return the cannons {@link SpriteLayer}
+     */
+    public SpriteLayer getCannons() {
+        return cannons;
+    }
+
+    /**
+     * Returns the layer holding the active projectiles.
+     * @return the projectiles {@link SpriteLayer}
+     */
+    public SpriteLayer getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Returns the layer holding the background trees.
+     * @return the trees {@link SpriteLayer}
+     */
+    public SpriteLayer getTrees() {
+        return trees;
+    }
+
+    /**
+     * Returns the layer holding the active dialogue effects.
+     * @return the dialogue {@link SpriteLayer}
+     */
+    public SpriteLayer getDialogue() {
+        return dialogue;
+    }
+}
\ No newline at end of file
@@ -8,6 +8,7 @@ import java.awt.image.BufferedImage;
 import gamestates.Gamestate;
 import gamestates.Playing;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import static utils.Constants.GameConstants.*;
 import static utils.HelpMethods.IsIn;
@@ -43,6 +44,7 @@ public class GameCompletedOverlay {
         img = LoadSave.GetSpriteAtlas(LoadSave.Images.GAME_COMPLETED);
         imgW = (int) (img.getWidth() * SCALE);
         imgH = (int) (img.getHeight() * SCALE);
+        img = SpriteCache.GetScaled(img, imgW, imgH);
         imgX = (int) GAME_WIDTH / 2 - imgW / 2;
         imgY = (int) (100 * SCALE);
     }
@@ -55,7 +57,7 @@ public class GameCompletedOverlay {
         g.setColor(new Color(0, 0, 0, 200));
         g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
 
-        g.drawImage(img, imgX, imgY, imgW, imgH, null);
+        g.drawImage(img, imgX, imgY, null);
 
         quitBtn.draw(g);
         creditBtn.draw(g);
@@ -3,6 +3,7 @@ package ui;
 import gamestates.Gamestate;
 import gamestates.Playing;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
@@ -47,6 +48,7 @@ public class GameOverOverlay {
         img = LoadSave.GetSpriteAtlas(LoadSave.Images.DEATH_SCREEN);
         imgW = (int) (img.getWidth() * SCALE);
         imgH = (int) (img.getHeight() * SCALE);
+        img = SpriteCache.GetScaled(img, imgW, imgH);
         imgX = GAME_WIDTH / 2 - imgW / 2;
         imgY = (int) (100 * SCALE);
     }
@@ -59,7 +61,7 @@ public class GameOverOverlay {
         g.setColor(new Color(0, 0, 0, 200));
         g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
 
-        g.drawImage(img, imgX, imgY, imgW, imgH, null);
+        g.drawImage(img, imgX, imgY, null);
 
         menu.draw(g);
         play.draw(g);
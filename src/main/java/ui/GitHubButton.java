@@ -8,6 +8,7 @@ import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 
 import utils.LoadSave;
+import utils.SpriteCache;
 
 public class GitHubButton extends MyButton {
     private BufferedImage[] gitHubBtnImages;
@@ -34,7 +35,7 @@ public class GitHubButton extends MyButton {
         gitHubBtnImages = new BufferedImage[3];
 
         for (int i = 0; i < gitHubBtnImages.length; i++)
-            gitHubBtnImages[i] = temp.getSubimage(i * SOUND_SIZE_DEFAULT, 0, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT);
+            gitHubBtnImages[i] = SpriteCache.GetScaled(temp.getSubimage(i * SOUND_SIZE_DEFAULT, 0, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT), B_WIDTH, B_HEIGHT);
     }
 
     /**
@@ -61,7 +62,7 @@ public class GitHubButton extends MyButton {
      * @param g the {@link Graphics} object used for drawing
      */
     public void draw(Graphics g) {
-        g.drawImage(gitHubBtnImages[colIndex], x, y, B_WIDTH, B_HEIGHT, null);
+        g.drawImage(gitHubBtnImages[colIndex], x, y, null);
     }
 
     /**
@@ -3,6 +3,7 @@ package ui;
 import gamestates.Gamestate;
 import gamestates.Playing;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.Graphics;
 import java.awt.event.MouseEvent;
@@ -46,6 +47,7 @@ public class LevelCompletedOverlay {
         img = LoadSave.GetSpriteAtlas(LoadSave.Images.COMPLETED_IMG);
         bgW = (int) (img.getWidth() * SCALE);
         bgH = (int) (img.getHeight() * SCALE);
+        img = SpriteCache.GetScaled(img, bgW, bgH);
         bxX = GAME_WIDTH / 2 - bgW / 2;
         bgY = (int) (75 * SCALE);
     }
@@ -63,7 +65,7 @@ public class LevelCompletedOverlay {
      * @param g the {@link Graphics} object used for drawing
      */
     public void draw(Graphics g) {
-        g.drawImage(img, bxX, bgY, bgW, bgH, null); // Draw background image
+        g.drawImage(img, bxX, bgY, null); // Draw background image
         next.draw(g);
         menu.draw(g);
     }
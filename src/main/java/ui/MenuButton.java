@@ -2,6 +2,7 @@ package ui;
 
 import gamestates.Gamestate;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -39,7 +40,7 @@ public class MenuButton extends MyButton {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.Sprites.MENU_BUTTONS);
 
         for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT);
+            imgs[i] = SpriteCache.GetScaled(temp.getSubimage(i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT), B_WIDTH, B_HEIGHT);
     }
 
     /**
@@ -47,7 +48,7 @@ public class MenuButton extends MyButton {
      * @param g the {@link Graphics} object used for drawing
      */
     public void draw(Graphics g) {
-        g.drawImage(imgs[index], x - xOffsetCenter, y, B_WIDTH, B_HEIGHT, null);
+        g.drawImage(imgs[index], x - xOffsetCenter, y, null);
     }
 
     /**
@@ -3,6 +3,7 @@ package ui;
 import gamestates.Gamestate;
 import gamestates.Playing;
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.Graphics;
 import java.awt.event.MouseEvent;
@@ -57,6 +58,7 @@ public class PauseOverlay {
         backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.Images.PAUSE_BACKGROUND);
         bgWidth = (int) (backgroundImg.getWidth() * SCALE);
         bgHeight = (int) (backgroundImg.getHeight() * SCALE);
+        backgroundImg = SpriteCache.GetScaled(backgroundImg, bgWidth, bgHeight);
         bgX = GAME_WIDTH / 2 - bgWidth / 2;
         bgY = (int) (5 * SCALE);
     }
@@ -79,7 +81,7 @@ public class PauseOverlay {
      */
     public void draw(Graphics g) {
         // Background
-        g.drawImage(backgroundImg, bgX, bgY, bgWidth, bgHeight, null);
+        g.drawImage(backgroundImg, bgX, bgY, null);
 
         // URM (Unpause, Replay, Menu) buttons
         menuBtn.draw(g);
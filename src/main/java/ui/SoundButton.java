@@ -1,6 +1,7 @@
 package ui;
 
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -35,7 +36,7 @@ public class SoundButton extends MyButton {
 
         for (int j = 0; j < soundImgs.length; j++)
             for (int i = 0; i < soundImgs[j].length; i++)
-                soundImgs[j][i] = temp.getSubimage(i * SOUND_SIZE_DEFAULT, j * SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT);
+                soundImgs[j][i] = SpriteCache.GetScaled(temp.getSubimage(i * SOUND_SIZE_DEFAULT, j * SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT), width, height);
     }
 
     /**
@@ -67,7 +68,7 @@ public class SoundButton extends MyButton {
      * @param g the {@link Graphics} object used for drawing
      */
     public void draw(Graphics g) {
-        g.drawImage(soundImgs[rowIndex][colIndex], x, y, width, height, null);
+        g.drawImage(soundImgs[rowIndex][colIndex], x, y, null);
     }
 
     /**
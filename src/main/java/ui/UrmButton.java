@@ -1,6 +1,7 @@
 package ui;
 
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
@@ -34,7 +35,7 @@ public class UrmButton extends MyButton {
         imgs = new BufferedImage[3];
 
         for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * URM_DEFAULT_SIZE, rowIndex * URM_DEFAULT_SIZE, URM_DEFAULT_SIZE, URM_DEFAULT_SIZE);
+            imgs[i] = SpriteCache.GetScaled(temp.getSubimage(i * URM_DEFAULT_SIZE, rowIndex * URM_DEFAULT_SIZE, URM_DEFAULT_SIZE, URM_DEFAULT_SIZE), URM_SIZE, URM_SIZE);
     }
 
     /**
@@ -53,7 +54,7 @@ public class UrmButton extends MyButton {
      * @param g the {@link Graphics} object used for drawing
      */
     public void draw(Graphics g) {
-        g.drawImage(imgs[index], x, y, URM_SIZE, URM_SIZE, null);
+        g.drawImage(imgs[index], x, y, null);
     }
 
     /**
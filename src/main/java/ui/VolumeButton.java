@@ -1,6 +1,7 @@
 package ui;
 
 import utils.LoadSave;
+import utils.SpriteCache;
 
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
@@ -40,9 +41,9 @@ public class VolumeButton extends MyButton {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.Sprites.VOLUME_BUTTONS);
         imgs = new BufferedImage[3];
         for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * VOLUME_DEFAULT_WIDTH, 0, VOLUME_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+            imgs[i] = SpriteCache.GetScaled(temp.getSubimage(i * VOLUME_DEFAULT_WIDTH, 0, VOLUME_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT), VOLUME_WIDTH, height);
 
-        sliderImg = temp.getSubimage(3 * VOLUME_DEFAULT_WIDTH, 0, SLIDER_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+        sliderImg = SpriteCache.GetScaled(temp.getSubimage(3 * VOLUME_DEFAULT_WIDTH, 0, SLIDER_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT), width, height);
     }
 
     /**
@@ -61,8 +62,8 @@ public class VolumeButton extends MyButton {
      * @param g the {@link Graphics} object used for drawing
      */
     public void draw(Graphics g) {
-        g.drawImage(sliderImg, x, y, width, height, null);
-        g.drawImage(imgs[index], buttonX - VOLUME_WIDTH / 2, y, VOLUME_WIDTH, height, null);
+        g.drawImage(sliderImg, x, y, null);
+        g.drawImage(imgs[index], buttonX - VOLUME_WIDTH / 2, y, null);
     }
 
     /**
@@ -0,0 +1,74 @@
+package utils;
+
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class AssetManager {
+    /**
+     * At least two workers, so that a task waiting on another asset (like building the levels while their images decode) always lets it run.
+     */
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, r -> {
+        Thread t = new Thread(r, "Assets-" + THREAD_COUNT.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final Map<String, CompletableFuture<BufferedImage>> IMAGES = new ConcurrentHashMap<>();
+
+    /**
+     * Runs a loading task on the asset threads.
+     * @param task the task to run
+     * @return a {@link CompletableFuture} completed with the result of the task
+     * @param <T> the type of the loaded asset
+     */
+    public static <T> CompletableFuture<T> Submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, EXECUTOR);
+    }
+
+    /**
+     * Starts decoding an image on the asset threads, unless it is already loading or loaded.
+     * @param fileName the name of the image, as given to {@link LoadSave#GetSpriteAtlas(String)}
+     * @return a {@link CompletableFuture} completed with the decoded image
+     */
+    public static CompletableFuture<BufferedImage> LoadImage(String fileName) {
+        return IMAGES.computeIfAbsent(fileName, name -> Submit(() -> LoadSave.ReadImage(name)));
+    }
+
+    /**
+     * Starts decoding several images in parallel.
+     * @param fileNames the names of the images
+     * @return a {@link CompletableFuture} completed once every image is decoded
+     */
+    public static CompletableFuture<Void> LoadImages(String... fileNames) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[fileNames.length];
+        for (int i = 0; i < fileNames.length; i++)
+            futures[i] = LoadImage(fileNames[i]);
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Returns a decoded image, waiting for it if it is still being decoded.
+     * </p>
+     * An image nobody asked to preload is decoded right away on the calling thread, which is cheaper than a round trip through the executor.
+     * @param fileName the name of the image
+     * @return the decoded {@link BufferedImage}
+     */
+    public static BufferedImage GetImage(String fileName) {
+        CompletableFuture<BufferedImage> future = IMAGES.get(fileName);
+        if (future == null) {
+            BufferedImage img = LoadSave.ReadImage(fileName);
+            IMAGES.putIfAbsent(fileName, CompletableFuture.completedFuture(img));
+            return img;
+        }
+        return future.join();
+    }
+}
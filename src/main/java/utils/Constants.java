@@ -18,6 +18,8 @@ public class Constants {
         public static final int QUESTION = 0;
         public static final int EXCLAMATION = 1;
 
+        public static final int MAX_DIALOGUE_EFFECTS = 20;
+
         public static int DIALOGUE_WIDTH = 14;
         public static int DIALOGUE_HEIGHT = 12;
 
@@ -40,6 +42,8 @@ public class Constants {
         public static int CANNON_BALL_WIDTH = CANNON_BALL_DEFAULT_WIDTH;
         public static int CANNON_BALL_HEIGHT = CANNON_BALL_DEFAULT_HEIGHT;
         public static float SPEED = 0.75f;
+
+        public static final int PROJECTILE_POOL_SIZE = 64;
     }
 
     public static class ObjectConstants {
@@ -97,6 +101,7 @@ public class Constants {
 
     public static class Tree {
         public static final int NUM_ANIMATIONS = 4;
+        public static final int TREE_ANIMATION_SPEED = 35;
 
         public static final int TREE_ONE = 7;
         public static final int TREE_TWO = 8;
@@ -174,6 +179,20 @@ public class Constants {
         public static final int CRABBY = 0;
         public static final int PINKSTAR = 1;
         public static final int SHARK = 2;
+        public static final int ENEMY_TYPE_COUNT = 3;
+
+        /**
+         * Enemies further than this many tiles from the screen are put to sleep and only patrol every {@link #DORMANT_UPDATE_INTERVAL} updates.
+         */
+        public static final int ACTIVATION_RADIUS_TILES = 8;
+        public static final int DORMANT_UPDATE_INTERVAL = 8;
+
+        /**
+         * From this many enemies running their full behavior, their sight checks are planned in parallel before the enemies are updated,
+         * in batches of {@link #PARALLEL_AI_BATCH} enemies per task.
+         */
+        public static final int PARALLEL_AI_THRESHOLD = 256;
+        public static final int PARALLEL_AI_BATCH = 64;
 
         public static final int IDLE = 0;
         public static final int RUNNING = 1;
@@ -341,6 +360,7 @@ public class Constants {
     public static class GameConstants {
         public static final int FPS_SET = 120;
         public static final int UPS_SET = 200;
+        public static final int MAX_CATCH_UP_UPDATES = 5;
         public static final int TILES_DEFAULT_SIZE = 32;
         public static float SCALE = 2f;
         public static final int TILES_IN_WIDTH = 26;
@@ -1,5 +1,7 @@
 package utils;
 
+import levels.TileGrid;
+import levels.TileProperties;
 import objects.*;
 import ui.MyButton;
 
@@ -15,14 +17,14 @@ public class HelpMethods {
     /**
      * Checks if a given position is solid in the level data.
      * </p>
-     * This method also check if the tile is solid using {@link #IsTileSolid(int, int, int[][])}.
+     * This method also check if the tile is solid using {@link #IsTileSolid(int, int, TileGrid)}.
      * @param x the x-coordinate to check
      * @param y the y-coordinate to check
      * @param lvlData the level data array
      * @return {@code true} if the position is solid, {@code false} otherwise
      */
-    private static boolean IsSolid(float x, float y, int[][] lvlData) {
-        int maxWidth = lvlData[0].length * GameConstants.TILES_SIZE;
+    private static boolean IsSolid(float x, float y, TileGrid lvlData) {
+        int maxWidth = lvlData.getWidth() * GameConstants.TILES_SIZE;
 
         if (x < 0 || x >= maxWidth)
             return true;
@@ -37,71 +39,88 @@ public class HelpMethods {
 
     /**
      * Checks if a tile at the specified coordinates is solid in the level data.
+     * </p>
+     * This is a single lookup in the solidity bitset of the {@link TileGrid}. Tiles outside the level are solid.
      * @param xTile the x-coordinate of the tile
      * @param yTile the y-coordinate of the tile
      * @param lvlData the level data array
      * @return {@code true} if the tile is solid, {@code false} otherwise
      */
-    public static boolean IsTileSolid(int xTile, int yTile, int[][] lvlData) {
-        int val = lvlData[yTile][xTile];
-
-        return switch (val) {
-            case 11, 48, 49 -> false;
-            default -> true;
-        };
+    public static boolean IsTileSolid(int xTile, int yTile, TileGrid lvlData) {
+        return lvlData.isSolid(xTile, yTile);
     }
 
     /**
-     * Checks if an entity can move to a specified position without colliding with solid tiles.
-     * </>
-     * This method checks if the entity's hitbox can move to the specified position without colliding with solid tiles {@link #IsSolid(float, float, int[][])}.
-     * @param x the x-coordinate of the entity
-     * @param y the y-coordinate of the entity
-     * @param width the width of the entity
-     * @param height the height of the entity
+     * Moves a hitbox through the level and stops it on the first solid tile it touches.
+     * </p>
+     * The hitbox is swept from one tile boundary to the next along its movement, and every column or row its leading edge enters
+     * is tested over the whole height or width of the hitbox. Fast entities can't tunnel through a wall thinner than their speed,
+     * and hitboxes taller or wider than a tile collide on every tile they cover. Tiles outside the level are solid.
+     * </p>
+     * On contact, the hitbox is snapped against the tile: flush with its face when moving left or up,
+     * and one pixel before it when moving right or down, since the right and bottom edges of a hitbox are inclusive.
+     * @param hitbox the hitbox to move, it is not modified
+     * @param dx the horizontal movement
+     * @param dy the vertical movement
      * @param lvlData the level data array
-     * @return {@code true} if the entity can move to the position, {@code false} otherwise
+     * @param result the {@link SweepResult} filled with the contact time, the normal and the resolved position
      */
-    public static boolean CanMoveHere(float x, float y, float width, float height, int[][] lvlData) {
-        if (!IsSolid(x, y, lvlData))
-            if (!IsSolid(x + width, y + height, lvlData))
-                if (!IsSolid(x + width, y, lvlData))
-                    if (!IsSolid(x, y + height, lvlData))
-                        return true;
-
-        return false;
-    }
-
-    /**
-     * Calculates the next x position of an entity next to a wall based on its hitbox and speed.
-     * @param hitbox the hitbox of the entity
-     * @param xSpeed the horizontal speed of the entity
-     * @return the next x position of the entity next to a wall
-     */
-    public static float GetEntityXPositionNextToWall(Rectangle2D.Float hitbox, float xSpeed) {
-        int currentTile = (int) (hitbox.x / GameConstants.TILES_SIZE);
-        if (xSpeed > 0) { // Right
-            int tileXPos = currentTile * GameConstants.TILES_SIZE;
-            int xOffset = (int) (GameConstants.TILES_SIZE - hitbox.width);
-            return tileXPos + xOffset - 1;
-        } else // Left
-            return currentTile * GameConstants.TILES_SIZE;
+    public static void SweepHitbox(Rectangle2D.Float hitbox, float dx, float dy, TileGrid lvlData, SweepResult result) {
+        float x = hitbox.x, y = hitbox.y, w = hitbox.width, h = hitbox.height;
+        int size = GameConstants.TILES_SIZE;
+
+        // The column and row holding the leading edges of the hitbox
+        int col = dx > 0 ? GetTileIndex(x + w) : GetTileIndex(x);
+        int row = dy > 0 ? GetTileIndex(y + h) : GetTileIndex(y);
+
+        while (true) {
+            float tx = Float.POSITIVE_INFINITY, ty = Float.POSITIVE_INFINITY;
+            if (dx > 0)
+                tx = ((col + 1) * size - (x + w)) / dx;
+            else if (dx < 0)
+                tx = (col * size - x) / dx;
+            if (dy > 0)
+                ty = ((row + 1) * size - (y + h)) / dy;
+            else if (dy < 0)
+                ty = (row * size - y) / dy;
+
+            if (Math.min(tx, ty) > 1) {
+                result.set(false, 1, 0, 0, x + dx, y + dy);
+                return;
+            }
+
+            if (tx <= ty) {
+                col += dx > 0 ? 1 : -1;
+                float yAt = y + dy * tx;
+                for (int r = GetTileIndex(yAt); r <= GetTileIndex(yAt + h); r++)
+                    if (lvlData.isSolid(col, r)) {
+                        if (dx > 0)
+                            result.set(true, tx, -1, 0, col * size - w - 1, yAt);
+                        else
+                            result.set(true, tx, 1, 0, (col + 1) * size, yAt);
+                        return;
+                    }
+            } else {
+                row += dy > 0 ? 1 : -1;
+                float xAt = x + dx * ty;
+                if (lvlData.getProperties().any(TileProperties.SOLID, row, GetTileIndex(xAt), GetTileIndex(xAt + w) + 1)) {
+                    if (dy > 0)
+                        result.set(true, ty, 0, -1, xAt, row * size - h - 1);
+                    else
+                        result.set(true, ty, 0, 1, xAt, (row + 1) * size);
+                    return;
+                }
+            }
+        }
     }
 
     /**
-     * Calculates the y position of an entity under a roof or above a floor based on its hitbox and air speed.
-     * @param hitbox the hitbox of the entity
-     * @param airSpeed the vertical speed of the entity (positive for falling, negative for jumping)
-     * @return the y position of the entity under a roof or above a floor
+     * Returns the index of the tile holding a coordinate, rounding down so that negative coordinates are outside the level.
+     * @param pos the x- or y-coordinate
+     * @return the index of the column or row holding it
      */
-    public static float GetEntityYPositionUnderRoofOrAboveFloor(Rectangle2D.Float hitbox, float airSpeed) {
-        int currentTile = (int) (hitbox.y / GameConstants.TILES_SIZE);
-        if (airSpeed > 0) { // Falling - touching floor
-            int tileYPos = currentTile * GameConstants.TILES_SIZE;
-            int yOffset = (int) (GameConstants.TILES_SIZE - hitbox.height);
-            return tileYPos + yOffset - 1;
-        } else // Jumping
-            return currentTile * GameConstants.TILES_SIZE;
+    private static int GetTileIndex(float pos) {
+        return (int) Math.floor(pos / GameConstants.TILES_SIZE);
     }
 
     /**
@@ -112,7 +131,7 @@ public class HelpMethods {
      * @param lvlData the level data array
      * @return {@code true} if the entity is on the floor, {@code false} otherwise
      */
-    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, int[][] lvlData) {
+    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, TileGrid lvlData) {
         // Check the pixels below bottom left and bottom right
         if (!IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, lvlData))
             return IsSolid(hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, lvlData);
@@ -129,7 +148,7 @@ public class HelpMethods {
      * @param lvlData the level data array
      * @return {@code true} if the entity is on the floor, {@code false} otherwise
      */
-    public static boolean IsFloor(Rectangle2D.Float hitbox, float xSpeed, int[][] lvlData) {
+    public static boolean IsFloor(Rectangle2D.Float hitbox, float xSpeed, TileGrid lvlData) {
         if (xSpeed > 0) // Moving right
             return IsSolid(hitbox.x + hitbox.width + xSpeed, hitbox.y + hitbox.height + 1, lvlData);
         else // Moving left
@@ -144,7 +163,7 @@ public class HelpMethods {
      * @param lvlData the level data array
      * @return {@code true} if the entity is on the floor, {@code false} otherwise
      */
-    public static boolean IsFloor(Rectangle2D.Float hitbox, int[][] lvlData) {
+    public static boolean IsFloor(Rectangle2D.Float hitbox, TileGrid lvlData) {
         if (!IsSolid(hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, lvlData))
             if (!IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, lvlData))
                 return false;
@@ -157,7 +176,7 @@ public class HelpMethods {
      * @param lvlData the level data array
      * @return {@code true} if the projectile is hitting a solid tile, {@code false} otherwise
      */
-    public static boolean IsProjectileHittingLevel(Projectile p, int[][] lvlData) {
+    public static boolean IsProjectileHittingLevel(Projectile p, TileGrid lvlData) {
         return IsSolid(p.getHitbox().x + p.getHitbox().width / 2, p.getHitbox().y + p.getHitbox().height / 2, lvlData);
     }
 
@@ -167,26 +186,27 @@ public class HelpMethods {
      * @param lvlData the level data array
      * @return {@code true} if the entity is in water, {@code false} otherwise
      */
-    public static boolean IsEntityInWater(Rectangle2D.Float hitbox, int[][] lvlData) {
+    public static boolean IsEntityInWater(Rectangle2D.Float hitbox, TileGrid lvlData) {
         // Will only check if entity touch top water. Can't reach bottom water if not
 		// touched top water.
-        if (GetTileValue(hitbox.x, hitbox.y + hitbox.height, lvlData) != 48)
-            if (GetTileValue(hitbox.x + hitbox.width, hitbox.y + hitbox.height, lvlData) != 48)
+        if (!HasTileProperty(hitbox.x, hitbox.y + hitbox.height, TileProperties.WATER_TOP, lvlData))
+            if (!HasTileProperty(hitbox.x + hitbox.width, hitbox.y + hitbox.height, TileProperties.WATER_TOP, lvlData))
                 return false;
         return true;
     }
 
     /**
-     * Gets the tile value at a specific position in the level data.
+     * Checks if the tile at a specific position in the level data has a property.
      * @param x the x-coordinate of the position
      * @param y the y-coordinate of the position
+     * @param property the property, like {@link TileProperties#WATER_TOP}
      * @param lvlData the level data array
-     * @return the tile value at the specified position
+     * @return {@code true} if the tile at the specified position has the property, {@code false} otherwise
      */
-    private static int GetTileValue(float x, float y, int[][] lvlData) {
+    private static boolean HasTileProperty(float x, float y, int property, TileGrid lvlData) {
         int xCord = (int) (x / TILES_SIZE);
         int yCord = (int) (y / TILES_SIZE);
-        return lvlData[yCord][xCord];
+        return lvlData.getProperties().has(property, xCord, yCord);
     }
 
     /**
@@ -197,7 +217,7 @@ public class HelpMethods {
      * @param yTile the y-coordinate of the tile to check visibility
      * @return {@code true} if the cannon can see the player, {@code false} otherwise
      */
-    public static boolean CanCannonSeePlayer(int[][] lvlData, Rectangle2D.Float firstHitbox, Rectangle2D.Float secondHitbox, int yTile) {
+    public static boolean CanCannonSeePlayer(TileGrid lvlData, Rectangle2D.Float firstHitbox, Rectangle2D.Float secondHitbox, int yTile) {
         int firstXTile = (int) (firstHitbox.x / GameConstants.TILES_SIZE);
         int secondXTile = (int) (secondHitbox.x / GameConstants.TILES_SIZE);
 
@@ -209,17 +229,16 @@ public class HelpMethods {
 
     /**
      * Checks if all tiles in a specified range are clear (not solid) at a given y-coordinate.
+     * </p>
+     * The whole span is tested against the solidity bitset a word at a time.
      * @param xStart the starting x-coordinate of the range
      * @param xEnd the ending x-coordinate of the range
      * @param y the y-coordinate to check
      * @param lvlData the level data array
      * @return {@code true} if all tiles in the range are clear, {@code false} otherwise
      */
-    public static boolean IsAllTilesClear(int xStart, int xEnd, int y, int[][] lvlData) {
-        for (int i = 0; i < xEnd - xStart; i++)
-            if (IsTileSolid(xStart + i, y, lvlData))
-                return false;
-        return true;
+    public static boolean IsAllTilesClear(int xStart, int xEnd, int y, TileGrid lvlData) {
+        return !lvlData.getProperties().any(TileProperties.SOLID, y, xStart, xEnd);
     }
 
     /**
@@ -230,11 +249,9 @@ public class HelpMethods {
      * @param lvlData the level data array
      * @return {@code true} if all tiles in the range are walkable, {@code false} otherwise
      */
-    public static boolean IsAllTilesWalkable(int xStart, int xEnd, int y, int[][] lvlData) {
+    public static boolean IsAllTilesWalkable(int xStart, int xEnd, int y, TileGrid lvlData) {
         if (IsAllTilesClear(xStart, xEnd, y, lvlData))
-            for (int i = 0; i < xEnd - xStart; i++)
-                if (!IsTileSolid(xStart + i, y + 1, lvlData))
-                    return false;
+            return lvlData.getProperties().all(TileProperties.SOLID, y + 1, xStart, xEnd);
         return true;
     }
 
@@ -246,7 +263,7 @@ public class HelpMethods {
      * @param yTile the y-coordinate of the tile to check visibility
      * @return {@code true} if the sight is clear, {@code false} otherwise
      */
-    public static boolean IsSightClear(int[][] lvlData, Rectangle2D.Float enemyBox, Rectangle2D.Float playerBox, int yTile) {
+    public static boolean IsSightClear(TileGrid lvlData, Rectangle2D.Float enemyBox, Rectangle2D.Float playerBox, int yTile) {
         int firstXTile = (int) (enemyBox.x / GameConstants.TILES_SIZE);
         int secondXTile;
 
@@ -3,7 +3,11 @@ package utils;
 import javax.imageio.ImageIO;
 
 import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -13,10 +17,16 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.URISyntaxException;
 import java.net.URL;
 
 public class LoadSave {
+    /**
+     * Set to {@code true} to print, for every loaded image, its conversion time and the memory it takes.
+     */
+    private static final boolean REPORT_IMAGE_LOADING = false;
+
+    private static TextureAtlas textureAtlas;
+
     public static class Images {
         public static final String ICON = "icon.png";
         public static final String PLAYING_BACKGROUND_IMAGE = "playing_bg_img.png";
@@ -60,6 +70,17 @@ public class LoadSave {
 
         public static final String TREE_ONE_ATLAS = "tree_one_atlas.png";
         public static final String TREE_TWO_ATLAS = "tree_two_atlas.png";
+
+        /**
+         * Every sprite sheet, all packed together in the {@link TextureAtlas}.
+         */
+        public static final String[] ALL = {
+                PLAYER_ATLAS, LEVEL_ATLAS, MENU_BUTTONS, SOUND_BUTTONS, URM_BUTTONS, VOLUME_BUTTONS, GITHUB_BUTTONS,
+                QUESTION_ATLAS, EXCLAMATION_ATLAS,
+                CRABBY_SPRITE, PINKSTAR_ATLAS, SHARK_ATLAS,
+                POTION_ATLAS, CONTAINER_ATLAS, TRAP_ATLAS, CANNON_ATLAS, CANNON_BALL, GRASS_ATLAS, WATER_TOP, WATER_BOTTOM,
+                TREE_ONE_ATLAS, TREE_TWO_ATLAS
+        };
     }
 
     public static class Texts {
@@ -74,15 +95,50 @@ public class LoadSave {
     }
 
     /**
-     * Loads a sprite atlas image from the resources.
+     * Returns the texture atlas holding every sprite sheet, packing it the first time it is needed.
+     * @return the {@link TextureAtlas} of the game
+     */
+    public static synchronized TextureAtlas GetTextureAtlas() {
+        if (textureAtlas == null)
+            textureAtlas = new TextureAtlas(Sprites.ALL);
+        return textureAtlas;
+    }
+
+    /**
+     * Returns where a sprite sheet was packed in the texture atlas.
+     * @param fileName the name of the sprite sheet, one of {@link Sprites}
+     * @return the {@link TextureAtlas.Region} of the sprite sheet, or {@code null} if it isn't packed
+     */
+    public static TextureAtlas.Region GetSpriteRegion(String fileName) {
+        return GetTextureAtlas().getRegion(fileName);
+    }
+
+    /**
+     * Loads a sprite atlas image.
+     * </p>
+     * Sprite sheets are cut out of the packed {@link TextureAtlas}, other images are taken from the {@link AssetManager},
+     * which may already have decoded them in the background.
      * @param fileName the name of the sprite atlas file
      * @return {@link BufferedImage} containing the sprite atlas
      */
     public static BufferedImage GetSpriteAtlas(String fileName) {
+        BufferedImage packed = GetTextureAtlas().getImage(fileName);
+        if (packed != null)
+            return packed;
+
+        return AssetManager.GetImage(fileName);
+    }
+
+    /**
+     * Decodes an image from the resources and converts it for drawing.
+     * @param fileName the name of the image file
+     * @return the decoded {@link BufferedImage}
+     */
+    static BufferedImage ReadImage(String fileName) {
         BufferedImage img = null;
         InputStream is = LoadSave.class.getResourceAsStream("/images/" + fileName);
         try {
-            img = ImageIO.read(is);
+            img = ToCompatibleImage(ImageIO.read(is), fileName);
         } catch (IOException e) {
             e.printStackTrace();
         } finally {
@@ -96,39 +152,155 @@ public class LoadSave {
     }
 
     /**
-     * Loads all level images from the resources.
-     * @return {@link BufferedImage} array containing all level images
+     * Counts the levels, without decoding them.
+     * </p>
+     * Levels are numbered from {@code 1}, so they are probed one by one until one is missing. A level exists if it has
+     * an image in the resources, or only a converted level file in the data folder, like a level too large for a PNG.
+     * This works the same way from the file system and from inside a jar.
+     * @return the number of levels
      */
-    public static BufferedImage[] GetAllLevels() {
-        URL url = LoadSave.class.getResource("/images/lvls");
-        File file = null;
+    public static int GetAmountOfLevels() {
+        int amount = 0;
+        while (LevelExists(amount))
+            amount++;
+        return amount;
+    }
 
-        try {
-            file = new File(url.toURI());
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
+    /**
+     * Checks if a level exists, as an image or as a converted level file.
+     * @param index the index of the level, starting at {@code 0}
+     * @return {@code true} if the level can be loaded, {@code false} otherwise
+     */
+    public static boolean LevelExists(int index) {
+        return GetLevelImageURL(index) != null || GetLevelFile(index).exists();
+    }
+
+    /**
+     * Locates the image of a level in the resources, without reading it.
+     * @param index the index of the level, starting at {@code 0}
+     * @return the {@link URL} of the level image, or {@code null} if the level only exists as a converted level file
+     */
+    public static URL GetLevelImageURL(int index) {
+        return LoadSave.class.getResource(GetLevelPath(index));
+    }
+
+    /**
+     * Returns the file of a level converted to the binary {@link levels.LevelFormat}.
+     * The file may not exist, levels are only converted by running {@link levels.LevelFormat#main(String[])}.
+     * @param index the index of the level, starting at {@code 0}
+     * @return the level {@link File}, in the data folder
+     */
+    public static File GetLevelFile(int index) {
+        return new File(Texts.EXT_FOLDER + "levels/" + (index + 1) + ".lvl");
+    }
+
+    /**
+     * Loads the image of a level from the resources.
+     * @param index the index of the level, starting at {@code 0}
+     * @return {@link BufferedImage} of the level
+     */
+    public static BufferedImage GetLevelImage(int index) {
+        String path = GetLevelPath(index);
+        try (InputStream is = LoadSave.class.getResourceAsStream(path)) {
+            if (is == null)
+                throw new IOException("Level not found: " + path);
+            return ToArgbImage(ImageIO.read(is), path);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
+    }
 
-        File[] files = file.listFiles();
-        File[] sortedFiles = new File[files.length];
+    /**
+     * Returns the resource path of a level image.
+     * @param index the index of the level, starting at {@code 0}
+     * @return the path of the level image
+     */
+    private static String GetLevelPath(int index) {
+        return "/images/lvls/" + (index + 1) + ".png";
+    }
 
-        for (int i = 0; i < sortedFiles.length; i++)
-            for (int j = 0; j < files.length; j++) {
-                if (files[j].getName().equals((i + 1) + ".png"))
-                    sortedFiles[i] = files[j];
-            }
+    /**
+     * Converts an image to the format of the default screen, keeping its transparency.
+     * </p>
+     * {@link ImageIO} often returns {@code TYPE_4BYTE_ABGR} or {@code TYPE_CUSTOM} images, which Java2D never caches in video memory,
+     * so every draw of them goes through the slow software loops. A compatible image can be accelerated.
+     * @param img the image to convert, may be {@code null}
+     * @param name the name of the image, used when reporting
+     * @return the compatible {@link BufferedImage}, or the image itself if it already is compatible or if running headless
+     */
+    public static BufferedImage ToCompatibleImage(BufferedImage img, String name) {
+        if (img == null || GraphicsEnvironment.isHeadless())
+            return img;
 
-        BufferedImage[] imgs = new BufferedImage[sortedFiles.length];
+        long start = System.nanoTime();
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
 
-        for (int i = 0; i < imgs.length; i++) {
-            try {
-                imgs[i] = ImageIO.read(sortedFiles[i]);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        BufferedImage compatible = img;
+        if (!img.getColorModel().equals(gc.getColorModel(img.getTransparency()))) {
+            compatible = gc.createCompatibleImage(img.getWidth(), img.getHeight(), img.getTransparency());
+            Graphics2D g = compatible.createGraphics();
+            g.drawImage(img, 0, 0, null);
+            g.dispose();
         }
+        compatible.setAccelerationPriority(1f);
 
-        return imgs;
+        ReportImage(name, img, compatible, start);
+        return compatible;
+    }
+
+    /**
+     * Converts an image to {@code TYPE_INT_ARGB}.
+     * </p>
+     * Level images are never drawn, only read pixel by pixel, so they are not converted to the screen format:
+     * on a 16-bit display that would change the colors the levels are encoded with.
+     * @param img the image to convert, may be {@code null}
+     * @param name the name of the image, used when reporting
+     * @return the ARGB {@link BufferedImage}
+     */
+    public static BufferedImage ToArgbImage(BufferedImage img, String name) {
+        if (img == null || img.getType() == BufferedImage.TYPE_INT_ARGB)
+            return img;
+
+        long start = System.nanoTime();
+        BufferedImage argb = new BufferedImage(img.getWidth(), img.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = argb.createGraphics();
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+
+        ReportImage(name, img, argb, start);
+        return argb;
+    }
+
+    /**
+     * Prints how long converting an image took and how much memory it takes before and after, if {@link #REPORT_IMAGE_LOADING} is set.
+     * @param name the name of the image
+     * @param before the image as it was loaded
+     * @param after the converted image
+     * @param start the {@link System#nanoTime()} value at which the conversion started
+     */
+    private static void ReportImage(String name, BufferedImage before, BufferedImage after, long start) {
+        if (!REPORT_IMAGE_LOADING)
+            return;
+
+        System.out.printf("Image %s: %dx%d, type %d -> %d, %.2f ms, %d KB -> %d KB%n",
+                name,
+                after.getWidth(),
+                after.getHeight(),
+                before.getType(),
+                after.getType(),
+                (System.nanoTime() - start) / 1_000_000.0,
+                GetImageBytes(before) / 1024,
+                GetImageBytes(after) / 1024);
+    }
+
+    /**
+     * Returns the number of bytes held by the pixels of an image.
+     * @param img the image to measure
+     * @return the size of the image's data buffer, in bytes
+     */
+    private static long GetImageBytes(BufferedImage img) {
+        DataBuffer buffer = img.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
     }
 
     /**
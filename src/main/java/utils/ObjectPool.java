@@ -0,0 +1,57 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class ObjectPool<T> {
+    private final Supplier<T> factory;
+    private final ArrayList<T> free = new ArrayList<>();
+
+    /**
+     * Constructor for the ObjectPool class.
+     * </p>
+     * Freed objects are kept and handed out again instead of being left to the garbage collector, so that spawning and
+     * resetting objects doesn't allocate once the pool holds enough of them. The pool doesn't reset the objects itself:
+     * whoever obtains one must initialize every field it uses.
+     * @param factory creates a new object when no freed one is left
+     */
+    public ObjectPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a freed object, or a new one if there is none.
+     * @return the object, in whatever state it was freed
+     */
+    public T obtain() {
+        if (free.isEmpty())
+            return factory.get();
+        return free.remove(free.size() - 1);
+    }
+
+    /**
+     * Gives an object back to the pool. It must not be used anymore until it is obtained again.
+     * @param item the object to free
+     */
+    public void free(T item) {
+        free.add(item);
+    }
+
+    /**
+     * Gives every object of a list back to the pool. The list itself is not modified.
+     * @param items the objects to free
+     */
+    public void freeAll(List<? extends T> items) {
+        for (int i = 0; i < items.size(); i++)
+            free.add(items.get(i));
+    }
+
+    /**
+     * Returns the number of objects waiting to be obtained again.
+     * @return the number of freed objects
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+}
@@ -0,0 +1,202 @@
+package utils;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static utils.Constants.GameConstants.TILES_SIZE;
+
+public class SpatialHash<T> {
+    /**
+     * Where an item is stored: the range of tile columns its hitbox covered when it was inserted or last moved.
+     */
+    private static class Entry<T> {
+        private T item;
+        private int firstColumn, lastColumn;
+    }
+
+    private final ArrayList<ArrayList<Entry<T>>> columns;
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    private final ObjectPool<Entry<T>> entryPool = new ObjectPool<>(Entry::new);
+
+    /**
+     * Constructor for the SpatialHash class.
+     * </p>
+     * Levels scroll horizontally, so the items are bucketed by tile column only: an item is listed in every column its hitbox covers,
+     * and a query only looks at the columns of the queried box. The cost of a query depends on how crowded these columns are,
+     * not on how many items the level holds.
+     * @param columnCount the width of the level in tiles
+     */
+    public SpatialHash(int columnCount) {
+        columns = new ArrayList<>(Math.max(1, columnCount));
+        for (int i = 0; i < Math.max(1, columnCount); i++)
+            columns.add(new ArrayList<>());
+    }
+
+    /**
+     * Adds an item, or moves it if it is already in the hash.
+     * @param item the item to add
+     * @param hitbox the current hitbox of the item
+     */
+    public void insert(T item, Rectangle2D.Float hitbox) {
+        Entry<T> entry = entries.get(item);
+        if (entry != null) {
+            move(entry, hitbox);
+            return;
+        }
+
+        entry = entryPool.obtain();
+        entry.item = item;
+        entry.firstColumn = getColumn(hitbox.x);
+        entry.lastColumn = getColumn(hitbox.x + hitbox.width);
+        addToColumns(entry);
+        entries.put(item, entry);
+    }
+
+    /**
+     * Updates the columns of an item after it moved. Nothing is done while it stays within the same columns, which is the case on most updates.
+     * @param item the item that moved
+     * @param hitbox the new hitbox of the item
+     */
+    public void move(T item, Rectangle2D.Float hitbox) {
+        Entry<T> entry = entries.get(item);
+        if (entry == null)
+            insert(item, hitbox);
+        else
+            move(entry, hitbox);
+    }
+
+    /**
+     * Removes an item. Does nothing if it isn't in the hash.
+     * @param item the item to remove
+     */
+    public void remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry != null) {
+            removeFromColumns(entry);
+            freeEntry(entry);
+        }
+    }
+
+    /**
+     * Removes every item. The entries are kept for the next insertions, so clearing and refilling the hash doesn't allocate.
+     */
+    public void clear() {
+        for (int c = 0; c < columns.size(); c++) {
+            ArrayList<Entry<T>> column = columns.get(c);
+            for (int i = 0; i < column.size(); i++) {
+                Entry<T> entry = column.get(i);
+                // An entry is listed in every column it covers, but must only be freed once
+                if (entry.firstColumn == c)
+                    freeEntry(entry);
+            }
+            column.clear();
+        }
+        entries.clear();
+    }
+
+    /**
+     * Removes every item and resizes the hash for another level, keeping the columns it already has.
+     * @param columnCount the width of the level in tiles
+     */
+    public void reset(int columnCount) {
+        clear();
+        int count = Math.max(1, columnCount);
+        while (columns.size() > count)
+            columns.remove(columns.size() - 1);
+        while (columns.size() < count)
+            columns.add(new ArrayList<>());
+    }
+
+    /**
+     * Finds the items that may overlap a box, every item being returned once.
+     * </p>
+     * The result only holds candidates sharing a tile column with the box: their hitboxes still have to be tested.
+     * @param box the box to query
+     * @param result the list to fill, cleared first so it can be reused by every query
+     * @return the result list
+     */
+    public List<T> query(Rectangle2D.Float box, List<T> result) {
+        result.clear();
+        int first = getColumn(box.x);
+        int last = getColumn(box.x + box.width);
+
+        for (int c = first; c <= last; c++)
+            for (Entry<T> entry : columns.get(c))
+                // An item covering several columns is only returned from the first column it shares with the box
+                if (c == Math.max(first, entry.firstColumn))
+                    result.add(entry.item);
+
+        return result;
+    }
+
+    /**
+     * Returns the number of items in the hash.
+     * @return the number of items
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Moves an entry to the columns covered by a hitbox.
+     * @param entry the entry to move
+     * @param hitbox the new hitbox of its item
+     */
+    private void move(Entry<T> entry, Rectangle2D.Float hitbox) {
+        int first = getColumn(hitbox.x);
+        int last = getColumn(hitbox.x + hitbox.width);
+        if (first == entry.firstColumn && last == entry.lastColumn)
+            return;
+
+        removeFromColumns(entry);
+        entry.firstColumn = first;
+        entry.lastColumn = last;
+        addToColumns(entry);
+    }
+
+    /**
+     * Lists an entry in every column of its range.
+     * @param entry the entry to add
+     */
+    private void addToColumns(Entry<T> entry) {
+        for (int c = entry.firstColumn; c <= entry.lastColumn; c++)
+            columns.get(c).add(entry);
+    }
+
+    /**
+     * Removes an entry from every column of its range. Columns hold a handful of entries, so a linear removal is the cheapest.
+     * @param entry the entry to remove
+     */
+    private void removeFromColumns(Entry<T> entry) {
+        for (int c = entry.firstColumn; c <= entry.lastColumn; c++) {
+            ArrayList<Entry<T>> column = columns.get(c);
+            for (int i = column.size() - 1; i >= 0; i--)
+                if (column.get(i) == entry) {
+                    column.remove(i);
+                    break;
+                }
+        }
+    }
+
+    /**
+     * Gives an entry back to the pool, dropping its item so that it doesn't keep it alive.
+     * @param entry the entry to free
+     */
+    private void freeEntry(Entry<T> entry) {
+        entry.item = null;
+        entryPool.free(entry);
+    }
+
+    /**
+     * Returns the column holding an x-coordinate, clamped to the level.
+     * @param x the x-coordinate
+     * @return the index of the column
+     */
+    private int getColumn(float x) {
+        int column = (int) Math.floor(x / TILES_SIZE);
+        return Math.max(0, Math.min(columns.size() - 1, column));
+    }
+}
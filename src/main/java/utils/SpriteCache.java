@@ -0,0 +1,144 @@
+package utils;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SpriteCache {
+    /**
+     * Identifies a scaled sprite by the region of pixels it comes from rather than by the {@link BufferedImage} object.
+     * </p>
+     * {@link TextureAtlas#getImage(String)} and {@link BufferedImage#getSubimage(int, int, int, int)} return a new image on
+     * every call, but all of them share the pixel buffer of their atlas page or standalone image, which lives as long as the
+     * game. The buffer, the position of the region in it and the size of the region stay the same from one call to the next,
+     * so the cache holds one entry per distinct sprite and size, however many times it is asked for.
+     * @param pixels the pixel buffer the region is read from
+     * @param x the x-coordinate of the region in the buffer
+     * @param y the y-coordinate of the region in the buffer
+     * @param regionWidth the width of the region
+     * @param regionHeight the height of the region
+     * @param width the width the sprite is drawn at
+     * @param height the height the sprite is drawn at
+     * @param flipped {@code true} if the sprite is flipped horizontally
+     */
+    private record Key(DataBuffer pixels, int x, int y, int regionWidth, int regionHeight, int width, int height, boolean flipped) {}
+
+    // The scale is set once at startup, before any sprite is scaled, so the cached sizes never go out of date
+    private static final Map<Key, BufferedImage> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a copy of a sprite already scaled to the size it is drawn at, in the image format of the screen.
+     * </p>
+     * Drawing the returned image without a destination size is a plain blit, whereas drawing the source with a size
+     * makes Java2D scale it again on every frame.
+     * @param source the sprite to scale
+     * @param width the width the sprite is drawn at
+     * @param height the height the sprite is drawn at
+     * @return the scaled {@link BufferedImage}, shared by every caller asking for the same sprite and size
+     */
+    public static BufferedImage GetScaled(BufferedImage source, int width, int height) {
+        return CACHE.computeIfAbsent(CreateKey(source, width, height, false), key -> CreateImage(source, key));
+    }
+
+    /**
+     * Returns a copy of a sprite scaled to the size it is drawn at and flipped horizontally.
+     * </p>
+     * It replaces drawing the sprite with a negative width: the flipped image is drawn at the left edge of the sprite, without any flip offset.
+     * @param source the sprite to scale and flip
+     * @param width the width the sprite is drawn at
+     * @param height the height the sprite is drawn at
+     * @return the scaled and flipped {@link BufferedImage}
+     */
+    public static BufferedImage GetScaledFlipped(BufferedImage source, int width, int height) {
+        return CACHE.computeIfAbsent(CreateKey(source, width, height, true), key -> CreateImage(source, key));
+    }
+
+    /**
+     * Scales every sprite of an animation.
+     * @param sources the sprites to scale
+     * @param width the width the sprites are drawn at
+     * @param height the height the sprites are drawn at
+     * @param flipped {@code true} to also flip the sprites horizontally
+     * @return a new array holding the scaled sprites
+     */
+    public static BufferedImage[] GetScaled(BufferedImage[] sources, int width, int height, boolean flipped) {
+        BufferedImage[] scaled = new BufferedImage[sources.length];
+        for (int i = 0; i < sources.length; i++)
+            if (sources[i] != null)
+                scaled[i] = flipped ? GetScaledFlipped(sources[i], width, height) : GetScaled(sources[i], width, height);
+        return scaled;
+    }
+
+    /**
+     * Scales every sprite of a sprite sheet.
+     * @param sources the sprites to scale, one row per animation
+     * @param width the width the sprites are drawn at
+     * @param height the height the sprites are drawn at
+     * @param flipped {@code true} to also flip the sprites horizontally
+     * @return a new array holding the scaled sprites
+     */
+    public static BufferedImage[][] GetScaled(BufferedImage[][] sources, int width, int height, boolean flipped) {
+        BufferedImage[][] scaled = new BufferedImage[sources.length][];
+        for (int i = 0; i < sources.length; i++)
+            scaled[i] = GetScaled(sources[i], width, height, flipped);
+        return scaled;
+    }
+
+    /**
+     * Creates the cache key of a sprite from the region of its pixel buffer it covers.
+     * @param source the sprite, usually a subimage of an atlas page
+     * @param width the width the sprite is drawn at
+     * @param height the height the sprite is drawn at
+     * @param flipped {@code true} if the sprite is flipped horizontally
+     * @return the {@link Key} of the sprite
+     */
+    private static Key CreateKey(BufferedImage source, int width, int height, boolean flipped) {
+        Raster raster = source.getRaster();
+        // A subimage shares the buffer of its parent, its sample model being translated by minus its position in the parent
+        int x = raster.getMinX() - raster.getSampleModelTranslateX();
+        int y = raster.getMinY() - raster.getSampleModelTranslateY();
+        return new Key(raster.getDataBuffer(), x, y, source.getWidth(), source.getHeight(), width, height, flipped);
+    }
+
+    /**
+     * Creates the scaled, and possibly flipped, image of a cache key.
+     * @param source the sprite to scale
+     * @param key the {@link Key} describing the image to create
+     * @return the new {@link BufferedImage}
+     */
+    private static BufferedImage CreateImage(BufferedImage source, Key key) {
+        int width = Math.max(1, Math.abs(key.width()));
+        int height = Math.max(1, key.height());
+        BufferedImage img = CreateCompatibleImage(width, height);
+
+        Graphics2D g = img.createGraphics();
+        if (key.flipped())
+            g.drawImage(source, width, 0, -width, height, null);
+        else
+            g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+
+        return img;
+    }
+
+    /**
+     * Creates a translucent image in the format of the default screen, which Java2D can keep in video memory.
+     * When running headless, a regular ARGB image is created instead.
+     * @param width the width of the image
+     * @param height the height of the image
+     * @return the new {@link BufferedImage}
+     */
+    public static BufferedImage CreateCompatibleImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless())
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+}
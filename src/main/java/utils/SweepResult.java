@@ -0,0 +1,74 @@
+package utils;
+
+public class SweepResult {
+    private boolean hit;
+    private float time;
+    private int normalX, normalY;
+    private float x, y;
+
+    /**
+     * Fills the result of a sweep. Called by {@link HelpMethods#SweepHitbox}, so that one result can be reused on every update.
+     * @param hit {@code true} if the hitbox touched a solid tile
+     * @param time the fraction of the movement done before the contact, {@code 1} if nothing was touched
+     * @param normalX the x-component of the normal of the touched tile face
+     * @param normalY the y-component of the normal of the touched tile face
+     * @param x the resolved x-coordinate of the hitbox
+     * @param y the resolved y-coordinate of the hitbox
+     */
+    void set(boolean hit, float time, int normalX, int normalY, float x, float y) {
+        this.hit = hit;
+        this.time = time;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns whether the hitbox touched a solid tile during the movement.
+     * @return {@code true} if it touched a solid tile, {@code false} if the whole movement is free
+     */
+    public boolean isHit() {
+        return hit;
+    }
+
+    /**
+     * Returns when the hitbox touched a solid tile.
+     * @return the fraction of the movement done before the contact, between {@code 0} and {@code 1}
+     */
+    public float getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the x-component of the normal of the touched tile face.
+     * @return {@code -1} when blocked moving right, {@code 1} when blocked moving left, {@code 0} otherwise
+     */
+    public int getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * Returns the y-component of the normal of the touched tile face.
+     * @return {@code -1} when blocked falling, {@code 1} when blocked jumping, {@code 0} otherwise
+     */
+    public int getNormalY() {
+        return normalY;
+    }
+
+    /**
+     * Returns the x-coordinate the hitbox should be moved to.
+     * @return the resolved x-coordinate
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y-coordinate the hitbox should be moved to.
+     * @return the resolved y-coordinate
+     */
+    public float getY() {
+        return y;
+    }
+}
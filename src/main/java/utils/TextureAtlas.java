@@ -0,0 +1,285 @@
+package utils;
+
+import javax.imageio.ImageIO;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static utils.Constants.Saves.DATA_EQUAL;
+import static utils.Constants.Saves.DATA_SEPARATOR;
+
+public class TextureAtlas {
+    /**
+     * Bump this whenever the packing or the index format changes, so that atlases cached by an older version are rebuilt.
+     */
+    public static final int ATLAS_VERSION = 2;
+    public static final int PAGE_SIZE = 1024;
+    private static final int PADDING = 1;
+
+    private static final String ATLAS_FOLDER = LoadSave.Texts.EXT_FOLDER + "atlas/";
+    private static final String INDEX_FILE = "index.txt";
+    private static final String PAGE_PREFIX = "page_";
+    private static final String VERSION = "version";
+    private static final String SIGNATURE = "signature";
+
+    /**
+     * A named rectangle of an atlas page.
+     * @param page the index of the page holding the region
+     * @param x the x-coordinate of the region in its page
+     * @param y the y-coordinate of the region in its page
+     * @param width the width of the region
+     * @param height the height of the region
+     */
+    public record Region(int page, int x, int y, int width, int height) {}
+
+    private final ArrayList<BufferedImage> pages = new ArrayList<>();
+    private final Map<String, Region> regions = new HashMap<>();
+
+    /**
+     * Constructor for the TextureAtlas class.
+     * </p>
+     * The packed pages are read back from the data folder when they were built from the same sprites,
+     * otherwise every sprite is decoded, packed, and the result is written there for the next start.
+     * @param spriteNames the file names of the sprites to pack, relative to the {@code images} resources
+     */
+    public TextureAtlas(String[] spriteNames) {
+        String signature = computeSignature(spriteNames);
+        if (!loadCachedAtlas(signature, spriteNames)) {
+            pages.clear();
+            regions.clear();
+            buildAtlas(spriteNames);
+            saveAtlas(signature);
+        }
+    }
+
+    /**
+     * Returns where a sprite was packed.
+     * @param name the file name of the sprite
+     * @return the {@link Region} of the sprite, or {@code null} if it isn't part of the atlas
+     */
+    public Region getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Returns a sprite of the atlas. The returned image shares its pixels with the atlas page.
+     * @param name the file name of the sprite
+     * @return the sprite as a {@link BufferedImage}, or {@code null} if it isn't part of the atlas
+     */
+    public BufferedImage getImage(String name) {
+        Region r = regions.get(name);
+        if (r == null)
+            return null;
+        return pages.get(r.page()).getSubimage(r.x(), r.y(), r.width(), r.height());
+    }
+
+    /**
+     * Returns a page of the atlas.
+     * @param index the index of the page
+     * @return the page as a {@link BufferedImage}
+     */
+    public BufferedImage getPage(int index) {
+        return pages.get(index);
+    }
+
+    /**
+     * Returns the number of pages in the atlas.
+     * @return the number of pages
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Computes a signature of the sprites to pack, from their names and a SHA-256 digest of their file contents.
+     * </p>
+     * The files are only read, not decoded, so this stays cheap, and any edit to a sprite changes the signature,
+     * even one that keeps its file size.
+     * @param spriteNames the file names of the sprites
+     * @return the signature, as a hexadecimal string
+     */
+    private String computeSignature(String[] spriteNames) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            e.printStackTrace();
+            return "";
+        }
+
+        for (String name : spriteNames) {
+            digest.update((name + DATA_EQUAL).getBytes(StandardCharsets.UTF_8));
+            try (InputStream is = TextureAtlas.class.getResourceAsStream("/images/" + name)) {
+                if (is != null)
+                    digest.update(is.readAllBytes());
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            digest.update(DATA_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Loads the atlas cached in the data folder.
+     * @param signature the signature of the sprites the atlas must have been built from
+     * @param spriteNames the file names of the sprites that must all be in the atlas
+     * @return {@code true} if the cached atlas was loaded, {@code false} if it is missing or out of date
+     */
+    private boolean loadCachedAtlas(String signature, String[] spriteNames) {
+        File index = new File(ATLAS_FOLDER + INDEX_FILE);
+        if (!index.exists())
+            return false;
+
+        int pageCount = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(index))) {
+            if (!(VERSION + DATA_EQUAL + ATLAS_VERSION).equals(reader.readLine()))
+                return false;
+            if (!(SIGNATURE + DATA_EQUAL + signature).equals(reader.readLine()))
+                return false;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(DATA_SEPARATOR);
+                if (parts.length != 6)
+                    return false;
+                Region r = new Region(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5]));
+                regions.put(parts[0], r);
+                pageCount = Math.max(pageCount, r.page() + 1);
+            }
+
+            for (String name : spriteNames)
+                if (!regions.containsKey(name))
+                    return false;
+
+            for (int i = 0; i < pageCount; i++) {
+                BufferedImage page = ImageIO.read(new File(ATLAS_FOLDER + PAGE_PREFIX + i + ".png"));
+                if (page == null)
+                    return false;
+                pages.add(LoadSave.ToCompatibleImage(page, PAGE_PREFIX + i));
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Could not read the cached texture atlas, rebuilding it: " + e.getMessage());
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Decodes every sprite and packs them into pages with a shelf packer: the sprites are sorted from the tallest to the shortest,
+     * then placed left to right on rows as tall as the first sprite of the row. A sprite too large for a page gets its own page.
+     * @param spriteNames the file names of the sprites to pack
+     */
+    private void buildAtlas(String[] spriteNames) {
+        ArrayList<String> names = new ArrayList<>();
+        Map<String, BufferedImage> sprites = new HashMap<>();
+        for (String name : spriteNames) {
+            BufferedImage img = readSprite(name);
+            if (img != null) {
+                names.add(name);
+                sprites.put(name, img);
+            }
+        }
+
+        names.sort((a, b) -> sprites.get(b).getHeight() - sprites.get(a).getHeight());
+
+        Graphics2D g = null;
+        int shelfX = 0, shelfY = 0, shelfHeight = 0;
+
+        for (String name : names) {
+            BufferedImage img = sprites.get(name);
+            int w = img.getWidth();
+            int h = img.getHeight();
+
+            if (g != null && shelfX + w > PAGE_SIZE) {
+                shelfY += shelfHeight + PADDING;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+
+            if (g == null || shelfY + h > PAGE_SIZE) {
+                if (g != null)
+                    g.dispose();
+                pages.add(new BufferedImage(Math.max(PAGE_SIZE, w), Math.max(PAGE_SIZE, h), BufferedImage.TYPE_INT_ARGB));
+                g = pages.get(pages.size() - 1).createGraphics();
+                shelfX = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+
+            g.drawImage(img, shelfX, shelfY, null);
+            regions.put(name, new Region(pages.size() - 1, shelfX, shelfY, w, h));
+
+            shelfX += w + PADDING;
+            shelfHeight = Math.max(shelfHeight, h);
+        }
+
+        if (g != null)
+            g.dispose();
+    }
+
+    /**
+     * Decodes a sprite from the resources.
+     * @param name the file name of the sprite
+     * @return the decoded {@link BufferedImage}, or {@code null} if it couldn't be read
+     */
+    private BufferedImage readSprite(String name) {
+        try (InputStream is = TextureAtlas.class.getResourceAsStream("/images/" + name)) {
+            if (is != null)
+                return ImageIO.read(is);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        System.out.println("Could not pack the sprite " + name);
+        return null;
+    }
+
+    /**
+     * Writes the pages and the index of the atlas to the data folder, then converts the pages for drawing.
+     * If the atlas can't be written, it is still used for this run and rebuilt on the next start.
+     * @param signature the signature of the sprites the atlas was built from
+     */
+    private void saveAtlas(String signature) {
+        File dir = new File(ATLAS_FOLDER);
+        if (!dir.exists())
+            dir.mkdirs();
+
+        try {
+            for (int i = 0; i < pages.size(); i++)
+                ImageIO.write(pages.get(i), "png", new File(ATLAS_FOLDER + PAGE_PREFIX + i + ".png"));
+
+            String[] names = regions.keySet().toArray(new String[0]);
+            Arrays.sort(names);
+
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(ATLAS_FOLDER + INDEX_FILE))) {
+                writer.write(VERSION + DATA_EQUAL + ATLAS_VERSION + "\n");
+                writer.write(SIGNATURE + DATA_EQUAL + signature + "\n");
+                for (String name : names) {
+                    Region r = regions.get(name);
+                    writer.write(name + DATA_SEPARATOR + r.page() + DATA_SEPARATOR + r.x() + DATA_SEPARATOR + r.y() + DATA_SEPARATOR + r.width() + DATA_SEPARATOR + r.height() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        for (int i = 0; i < pages.size(); i++)
+            pages.set(i, LoadSave.ToCompatibleImage(pages.get(i), PAGE_PREFIX + i));
+    }
+}